@@ -0,0 +1,82 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.api.plugin.PluginManager;
+
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.util.Optional;
+
+/**
+ * Creates the plugin and event instances used by the event benchmarks. The
+ * API types are implemented with proxies, none of their methods are called
+ * by the event manager while posting.
+ */
+final class BenchmarkHelper {
+
+    static final PluginContainer PLUGIN = proxy(PluginContainer.class, (proxy, method, args) -> {
+        if (method.getName().equals("getId") || method.getName().equals("getName")) {
+            return "benchmark";
+        }
+        return null;
+    });
+
+    static final PluginManager PLUGIN_MANAGER = proxy(PluginManager.class, (proxy, method, args) -> {
+        if (method.getName().equals("fromInstance")) {
+            return Optional.of(PLUGIN);
+        }
+        return null;
+    });
+
+    static <T extends Event> T createEvent(Class<T> eventClass) {
+        return proxy(eventClass, (proxy, method, args) -> null);
+    }
+
+    static SpongeEventManager createEventManager(AnnotatedEventListener.Factory factory) {
+        return new SpongeEventManager(PLUGIN_MANAGER, factory);
+    }
+
+    private static <T> T proxy(Class<T> type, InvocationHandler handler) {
+        return type.cast(Proxy.newProxyInstance(BenchmarkHelper.class.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return type.getSimpleName() + "Proxy";
+                default:
+                    return handler.invoke(proxy, method, args);
+            }
+        }));
+    }
+
+    private BenchmarkHelper() {
+    }
+
+}
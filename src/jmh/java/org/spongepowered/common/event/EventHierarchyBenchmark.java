@@ -0,0 +1,95 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Event;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures the cost of baking the handlers of an event type, which resolves
+ * the type hierarchy of the event, for different hierarchy depths. A
+ * listener is registered for every type in the hierarchy.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventHierarchyBenchmark {
+
+    @Param({"0", "2", "4", "8"})
+    public int depth;
+
+    private Blackhole blackhole;
+    private SpongeEventManager eventManager;
+    private Event event;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        this.blackhole = blackhole;
+        this.event = BenchmarkHelper.createEvent(HierarchyEvents.ofDepth(this.depth));
+    }
+
+    @Setup(Level.Invocation)
+    public void createEventManager() {
+        // A fresh event manager has no baked handlers, so the first post bakes them
+        this.eventManager = BenchmarkHelper.createEventManager(new ClassEventListenerFactory("org.spongepowered.common.event.listener"));
+        for (int i = 0; i <= this.depth; i++) {
+            this.eventManager.registerListener(BenchmarkHelper.PLUGIN, HierarchyEvents.ofDepth(i), this.blackhole::consume);
+        }
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 100)
+    public boolean bakeAndPost() {
+        return this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 100)
+    public boolean registerAndPost() {
+        // Registering a listener for the root type drops the baked handlers of every type
+        this.eventManager.post(this.event);
+        this.eventManager.registerListener(BenchmarkHelper.PLUGIN, Event.class, this.blackhole::consume);
+        return this.eventManager.post(this.event);
+    }
+
+}
@@ -0,0 +1,98 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Order;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link SpongeEventManager#post(Event)} and
+ * {@link SpongeEventManager#post(Event, Order)} with different numbers of
+ * listeners created by each listener factory. Each listener object
+ * registers three listeners, one each for {@link Order#PRE},
+ * {@link Order#DEFAULT} and {@link Order#POST}.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class EventPostBenchmark {
+
+    @Param({"0", "1", "10", "100"})
+    public int listeners;
+
+    @Param({"class", "dispatcher", "invoke", "lambda"})
+    public String factory;
+
+    private SpongeEventManager eventManager;
+    private Event event;
+
+    @Setup
+    public void setup(Blackhole blackhole) {
+        boolean lambda = this.factory.equals("lambda");
+        this.eventManager = BenchmarkHelper.createEventManager(ListenerFactoryBenchmark.createFactory(lambda ? "class" : this.factory));
+
+        for (int i = 0; i < this.listeners; i++) {
+            if (lambda) {
+                this.eventManager.registerListener(BenchmarkHelper.PLUGIN, Event.class, Order.PRE, blackhole::consume);
+                this.eventManager.registerListener(BenchmarkHelper.PLUGIN, Event.class, Order.DEFAULT, blackhole::consume);
+                this.eventManager.registerListener(BenchmarkHelper.PLUGIN, Event.class, Order.POST, blackhole::consume);
+            } else {
+                this.eventManager.registerListener(BenchmarkHelper.PLUGIN, new SingleListener(blackhole));
+            }
+        }
+
+        this.event = BenchmarkHelper.createEvent(Event.class);
+        // Bake the handlers before measuring
+        this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean post() {
+        return this.eventManager.post(this.event);
+    }
+
+    @Benchmark
+    public boolean postByOrder() {
+        return this.eventManager.post(this.event, Order.DEFAULT);
+    }
+
+}
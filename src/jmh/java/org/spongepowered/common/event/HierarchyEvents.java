@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.spongepowered.api.event.Event;
+
+/**
+ * Event types with an increasingly deep type hierarchy.
+ */
+public final class HierarchyEvents {
+
+    public interface Depth1 extends Event {
+    }
+
+    public interface Depth2 extends Depth1 {
+    }
+
+    public interface Depth3 extends Depth2 {
+    }
+
+    public interface Depth4 extends Depth3 {
+    }
+
+    public interface Depth5 extends Depth4 {
+    }
+
+    public interface Depth6 extends Depth5 {
+    }
+
+    public interface Depth7 extends Depth6 {
+    }
+
+    public interface Depth8 extends Depth7 {
+    }
+
+    private static final Class<?>[] TYPES = {Event.class, Depth1.class, Depth2.class, Depth3.class, Depth4.class, Depth5.class, Depth6.class,
+            Depth7.class, Depth8.class};
+
+    @SuppressWarnings("unchecked")
+    public static Class<? extends Event> ofDepth(int depth) {
+        return (Class<? extends Event>) TYPES[depth];
+    }
+
+    private HierarchyEvents() {
+    }
+
+}
@@ -0,0 +1,115 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the {@link AnnotatedEventListener.Factory} implementations, both
+ * the cost of creating the listeners of a large listener object and the cost
+ * of calling them.
+ */
+@State(Scope.Benchmark)
+@Fork(1)
+@Warmup(iterations = 5)
+@Measurement(iterations = 10)
+public class ListenerFactoryBenchmark {
+
+    @Param({"class", "dispatcher", "invoke"})
+    public String factory;
+
+    private ManyListeners handle;
+    private List<Method> methods;
+    private AnnotatedEventListener[] listeners;
+    private Event event;
+
+    static AnnotatedEventListener.Factory createFactory(String factory) {
+        switch (factory) {
+            case "class":
+                return new ClassEventListenerFactory("org.spongepowered.common.event.listener");
+            case "dispatcher":
+                return new DispatcherEventListenerFactory("org.spongepowered.common.event.listener");
+            case "invoke":
+                return new InvokeEventListenerFactory();
+            default:
+                throw new IllegalArgumentException("Unknown factory: " + factory);
+        }
+    }
+
+    @Setup
+    public void setup(Blackhole blackhole) throws Exception {
+        this.handle = new ManyListeners(blackhole);
+        this.methods = new ArrayList<>();
+        for (Method method : ManyListeners.class.getMethods()) {
+            if (method.isAnnotationPresent(Listener.class)) {
+                this.methods.add(method);
+            }
+        }
+        this.listeners = createListeners();
+        this.event = BenchmarkHelper.createEvent(Event.class);
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Measurement(iterations = 50)
+    @OutputTimeUnit(TimeUnit.MICROSECONDS)
+    public AnnotatedEventListener[] createListeners() throws Exception {
+        // A new factory has no cached classes, like a plugin registering its listeners for the first time
+        AnnotatedEventListener.Factory factory = createFactory(this.factory);
+        AnnotatedEventListener[] listeners = new AnnotatedEventListener[this.methods.size()];
+        for (int i = 0; i < listeners.length; i++) {
+            listeners[i] = factory.create(this.handle, this.methods.get(i));
+        }
+        return listeners;
+    }
+
+    @Benchmark
+    @BenchmarkMode(Mode.AverageTime)
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public void handle() throws Exception {
+        for (AnnotatedEventListener listener : this.listeners) {
+            listener.handle(this.event);
+        }
+    }
+
+}
@@ -0,0 +1,205 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import org.openjdk.jmh.infra.Blackhole;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+
+/**
+ * A listener object with many listener methods, like the listener classes of
+ * large plugins.
+ */
+public class ManyListeners {
+
+    public static final int LISTENER_COUNT = 32;
+
+    private final Blackhole blackhole;
+
+    public ManyListeners(Blackhole blackhole) {
+        this.blackhole = blackhole;
+    }
+
+    @Listener
+    public void onEvent0(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent1(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent2(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent3(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent4(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent5(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent6(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent7(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent8(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent9(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent10(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent11(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent12(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent13(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent14(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent15(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent16(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent17(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent18(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent19(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent20(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent21(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent22(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent23(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent24(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent25(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent26(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent27(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent28(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent29(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent30(Event event) {
+        this.blackhole.consume(event);
+    }
+
+    @Listener
+    public void onEvent31(Event event) {
+        this.blackhole.consume(event);
+    }
+
+}
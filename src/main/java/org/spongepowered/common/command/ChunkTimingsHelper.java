@@ -0,0 +1,107 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.gson.stream.JsonWriter;
+import net.minecraft.world.WorldServer;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinWorld;
+import org.spongepowered.common.world.ChunkTickTimings;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.List;
+
+public class ChunkTimingsHelper {
+
+    /**
+     * Collects the chunk tick timings of a world within the current window,
+     * sorted by total time spent, most first.
+     *
+     * @param world The world
+     * @return The timing entries
+     */
+    public static List<ChunkTickTimings.Entry> collect(WorldServer world) {
+        return ((IMixinWorld) world).getChunkTickTimings().collect(world.getTotalWorldTime());
+    }
+
+    public static void reset() {
+        for (World world : Sponge.getGame().getServer().getWorlds()) {
+            ((IMixinWorld) world).getChunkTickTimings().reset();
+        }
+    }
+
+    public static void writeTimings(File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            try (JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+                writer.name("windowSeconds").value(ChunkTickTimings.WINDOW_SECONDS);
+                writer.name("worlds").beginArray();
+                for (World spongeWorld : Sponge.getGame().getServer().getWorlds()) {
+                    WorldServer world = (WorldServer) spongeWorld;
+                    writer.beginObject();
+                    writer.name("name").value(world.getSaveHandler().getWorldDirectoryName());
+                    writer.name("dimensionId").value(world.provider.getDimensionId());
+                    writer.name("chunks").beginArray();
+                    for (ChunkTickTimings.Entry entry : collect(world)) {
+                        writeEntry(writer, entry);
+                    }
+                    writer.endArray();
+                    writer.endObject();
+                }
+                writer.endArray();
+                writer.endObject();
+            }
+        } catch (IOException e) {
+            Sponge.getLogger().error("Could not save chunk timings to {}", file, e);
+        }
+    }
+
+    private static void writeEntry(JsonWriter writer, ChunkTickTimings.Entry entry) throws IOException {
+        writer.beginObject();
+        writer.name("x").value(entry.getChunkX());
+        writer.name("z").value(entry.getChunkZ());
+        writer.name("totalNanos").value(entry.getTotalNanos());
+        writeCategory(writer, "entities", entry, ChunkTickTimings.ENTITY);
+        writeCategory(writer, "tileEntities", entry, ChunkTickTimings.TILE_ENTITY);
+        writeCategory(writer, "blocks", entry, ChunkTickTimings.BLOCK);
+        writer.endObject();
+    }
+
+    private static void writeCategory(JsonWriter writer, String name, ChunkTickTimings.Entry entry, int category) throws IOException {
+        writer.name(name).beginObject();
+        writer.name("count").value(entry.getCount(category));
+        writer.name("nanos").value(entry.getNanos(category));
+        writer.endObject();
+    }
+
+}
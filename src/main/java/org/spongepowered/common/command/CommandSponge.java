@@ -27,6 +27,7 @@
 import static org.spongepowered.api.util.command.args.GenericArguments.dimension;
 import static org.spongepowered.api.util.command.args.GenericArguments.firstParsing;
 import static org.spongepowered.api.util.command.args.GenericArguments.flags;
+import static org.spongepowered.api.util.command.args.GenericArguments.integer;
 import static org.spongepowered.api.util.command.args.GenericArguments.literal;
 import static org.spongepowered.api.util.command.args.GenericArguments.optional;
 import static org.spongepowered.api.util.command.args.GenericArguments.seq;
@@ -60,9 +61,13 @@
 import org.spongepowered.asm.mixin.MixinEnvironment;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.event.SpongeEventManager;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldProvider;
+import org.spongepowered.common.service.scheduler.PluginTaskStats;
+import org.spongepowered.common.service.scheduler.SpongeScheduler;
 import org.spongepowered.common.util.SpongeHooks;
+import org.spongepowered.common.world.ChunkTickTimings;
 import org.spongepowered.common.world.DimensionManager;
 import org.spongepowered.common.world.SpongeDimensionType;
 
@@ -70,7 +75,9 @@
 import java.text.SimpleDateFormat;
 import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import javax.annotation.Nullable;
 
@@ -94,6 +101,8 @@ public static CommandSpec getCommand() {
         nonFlagChildren.register(getAuditCommand(), "audit");
         nonFlagChildren.register(getHeapCommand(), "heap");
         nonFlagChildren.register(getPluginsCommand(), "plugins");
+        nonFlagChildren.register(getEventsCommand(), "events");
+        nonFlagChildren.register(getSchedulerCommand(), "scheduler");
         flagChildren.register(getChunksCommand(), "chunks");
         flagChildren.register(getConfigCommand(), "config");
         flagChildren.register(getReloadCommand(), "reload"); // TODO: Should these two be subcommands of config, and what is now config be set?
@@ -101,14 +110,16 @@ public static CommandSpec getCommand() {
         return CommandSpec.builder()
                 .description(Texts.of("Text description"))
                 .extendedDescription(Texts.of("commands:\n", // TODO: Automatically generate from child executors (wait for help system on this)
-                        INDENT, title("chunks"), LONG_INDENT, "Prints chunk data for a specific dimension or world(s)\n",
+                        INDENT, title("chunks"), LONG_INDENT, "Prints chunk data or the most expensive chunks for a specific dimension or world(s)\n",
                         INDENT, title("conf"), LONG_INDENT, "Configure sponge settings\n",
                         INDENT, title("heap"), LONG_INDENT, "Dump live JVM heap\n",
                         INDENT, title("reload"), LONG_INDENT, "Reloads a global, dimension, or world config\n",
                         INDENT, title("save"), LONG_INDENT, "Saves a global, dimension, or world config\n",
                         INDENT, title("version"), LONG_INDENT, "Prints current Sponge version\n",
                         INDENT, title("audit"), LONG_INDENT, "Audit mixin classes for implementation",
-                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins"))
+                        INDENT, title("plugins"), LONG_INDENT, "List currently installed plugins\n",
+                        INDENT, title("events"), LONG_INDENT, "Record and print event listener timings\n",
+                        INDENT, title("scheduler"), LONG_INDENT, "Print scheduler task metrics"))
                 .arguments(firstParsing(nonFlagChildren, flags()
                         .flag("-global", "g")
                         .valueFlag(world(Texts.of("world"), Sponge.getGame()), "-world", "w")
@@ -178,11 +189,38 @@ protected Text process(SpongeConfig<?> config, CommandSource source, CommandCont
     private static CommandSpec getChunksCommand() {
         return CommandSpec.builder()
                 .description(Texts.of("Print chunk information, optionally dump"))
-                .arguments(optional(seq(literal(Texts.of("dump"), "dump"), optional(literal(Texts.of("dump-all"), "all")))))
+                .arguments(optional(firstParsing(
+                        seq(literal(Texts.of("dump"), "dump"), optional(literal(Texts.of("dump-all"), "all"))),
+                        seq(literal(Texts.of("hot"), "hot"), optional(firstParsing(literal(Texts.of("hot-on"), "on"),
+                                literal(Texts.of("hot-off"), "off"), literal(Texts.of("hot-reset"), "reset"),
+                                literal(Texts.of("hot-dump"), "dump"), integer(Texts.of("count"))))))))
                 .permission("sponge.command.chunks")
                 .executor(new ConfigUsingExecutor() {
                     @Override
                     public CommandResult execute(CommandSource src, CommandContext args) throws CommandException {
+                        if (args.hasAny("hot-on")) {
+                            ChunkTickTimings.setEnabled(true);
+                            src.sendMessage(Texts.of("Chunk timings enabled"));
+                            return CommandResult.success();
+                        } else if (args.hasAny("hot-off")) {
+                            ChunkTickTimings.setEnabled(false);
+                            src.sendMessage(Texts.of("Chunk timings disabled"));
+                            return CommandResult.success();
+                        } else if (args.hasAny("hot-reset")) {
+                            ChunkTimingsHelper.reset();
+                            src.sendMessage(Texts.of("Chunk timings reset"));
+                            return CommandResult.success();
+                        } else if (args.hasAny("hot-dump")) {
+                            File file = new File(new File(new File("."), "chunk-dumps"),
+                                    "chunk-timings-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + "-server.json");
+                            src.sendMessage(Texts.of("Writing chunk timings to: ", file));
+                            ChunkTimingsHelper.writeTimings(file);
+                            src.sendMessage(Texts.of("Chunk timings complete"));
+                            return CommandResult.success();
+                        }
+                        if (args.hasAny("hot") && !ChunkTickTimings.isEnabled()) {
+                            src.sendMessage(Texts.of(TextColors.RED, "Chunk timings are disabled, use /sponge chunks hot on to enable them"));
+                        }
                         CommandResult res = super.execute(src, args);
                         if (args.hasAny("dump")) {
                             File file = new File(new File(new File("."), "chunk-dumps"),
@@ -199,7 +237,7 @@ protected Text processGlobal(SpongeConfig<SpongeConfig.GlobalConfig> config, Com
                             throws CommandException {
                         for (World world : Sponge.getGame().getServer().getWorlds()) {
                             source.sendMessage(Texts.of("World ", Texts.of(TextStyles.BOLD, world.getName()),
-                                    getChunksInfo(((WorldServer) world))));
+                                    getInfo((WorldServer) world, args)));
                         }
                         return Texts.of("Printed chunk info for all worlds ");
                     }
@@ -210,14 +248,18 @@ protected Text processDimension(SpongeConfig<SpongeConfig.DimensionConfig> confi
                             throws CommandException {
                         Sponge.getGame().getServer().getWorlds().stream().filter(world -> world.getDimension().getType().equals(dim))
                             .forEach(world -> source.sendMessage(Texts.of("World ", Texts.of(TextStyles.BOLD, world.getName()),
-                                                                      getChunksInfo(((WorldServer) world)))));
+                                                                      getInfo((WorldServer) world, args))));
                         return Texts.of("Printed chunk info for all worlds in dimension ", dim.getName());
                     }
 
                     @Override
                     protected Text processWorld(SpongeConfig<SpongeConfig.WorldConfig> config, World world, CommandSource source, CommandContext args)
                             throws CommandException {
-                        return getChunksInfo((WorldServer) world);
+                        return getInfo((WorldServer) world, args);
+                    }
+
+                    protected Text getInfo(WorldServer worldserver, CommandContext args) {
+                        return args.hasAny("hot") ? getHotChunks(worldserver, args.<Integer>getOne("count").orElse(10)) : getChunksInfo(worldserver);
                     }
 
                     protected Text key(Object text) {
@@ -238,6 +280,22 @@ protected Text getChunksInfo(WorldServer worldserver) {
                                 key("Removed Tile Entities: "), value(worldserver.tileEntitiesToBeRemoved), NEWLINE_TEXT
                         );
                     }
+
+                    protected Text getHotChunks(WorldServer worldserver, int count) {
+                        List<ChunkTickTimings.Entry> entries = ChunkTimingsHelper.collect(worldserver);
+                        TextBuilder build = Texts.builder().append(NEWLINE_TEXT, key("Most expensive chunks over the last "
+                                + ChunkTickTimings.WINDOW_SECONDS + " seconds (total ms: entities / tile entities / blocks):"));
+                        double millis = TimeUnit.MILLISECONDS.toNanos(1);
+                        for (int i = 0; i < Math.min(entries.size(), count); i++) {
+                            ChunkTickTimings.Entry entry = entries.get(i);
+                            build.append(NEWLINE_TEXT, Texts.of(INDENT, title(entry.getChunkX() + ", " + entry.getChunkZ()), ": ",
+                                    value(String.format("%.2f", entry.getTotalNanos() / millis)), ": ",
+                                    String.format("%.2f", entry.getNanos(ChunkTickTimings.ENTITY) / millis), " / ",
+                                    String.format("%.2f", entry.getNanos(ChunkTickTimings.TILE_ENTITY) / millis), " / ",
+                                    String.format("%.2f", entry.getNanos(ChunkTickTimings.BLOCK) / millis)));
+                        }
+                        return build.build();
+                    }
                 })
                 .build();
     }
@@ -408,4 +466,71 @@ INDENT, title("Main class: "), container.getInstance() == null ? " Virtual mod "
                     return CommandResult.success();
                 }).build();
     }
+
+    private static CommandSpec getEventsCommand() {
+        return CommandSpec.builder()
+                .description(Texts.of("Record and print event listener timings"))
+                .permission("sponge.command.events")
+                .arguments(optional(firstParsing(literal(Texts.of("on"), "on"), literal(Texts.of("off"), "off"),
+                        literal(Texts.of("reset"), "reset"), literal(Texts.of("dump"), "dump"))))
+                .executor((src, args) -> {
+                    if (args.hasAny("on")) {
+                        SpongeEventManager.setTimingsEnabled(true);
+                        src.sendMessage(Texts.of("Event timings enabled"));
+                    } else if (args.hasAny("off")) {
+                        SpongeEventManager.setTimingsEnabled(false);
+                        src.sendMessage(Texts.of("Event timings disabled"));
+                    } else if (args.hasAny("reset")) {
+                        EventTimingsHelper.reset();
+                        src.sendMessage(Texts.of("Event timings reset"));
+                    } else if (args.hasAny("dump")) {
+                        File file = new File(new File(new File("."), "event-dumps"),
+                                "event-timings-" + new SimpleDateFormat("yyyy-MM-dd_HH.mm.ss").format(new Date()) + "-server.json");
+                        src.sendMessage(Texts.of("Writing event timings to: ", file));
+                        EventTimingsHelper.writeTimings(file);
+                        src.sendMessage(Texts.of("Event timings complete"));
+                    } else {
+                        if (!SpongeEventManager.isTimingsEnabled()) {
+                            src.sendMessage(Texts.of(TextColors.RED, "Event timings are disabled, use /sponge events on to enable them"));
+                        }
+                        List<EventTimingsHelper.Entry> entries = EventTimingsHelper.collect();
+                        TextBuilder build = Texts.builder("Slowest listeners (total ms / count / max ms):");
+                        for (int i = 0; i < Math.min(entries.size(), 10); i++) {
+                            EventTimingsHelper.Entry entry = entries.get(i);
+                            build.append(NEWLINE_TEXT, Texts.of(INDENT, title(entry.getPlugin().getId()), " ",
+                                    entry.getEventClass().getSimpleName(), ": ",
+                                    String.format("%.2f", entry.getTotalNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1)), " / ",
+                                    entry.getCount(), " / ",
+                                    String.format("%.2f", entry.getMaxNanos() / (double) TimeUnit.MILLISECONDS.toNanos(1))));
+                        }
+                        src.sendMessage(build.build());
+                    }
+                    return CommandResult.success();
+                })
+                .build();
+    }
+
+    private static CommandSpec getSchedulerCommand() {
+        return CommandSpec.builder()
+                .description(Texts.of("Print scheduler task metrics"))
+                .permission("sponge.command.scheduler")
+                .executor((src, args) -> {
+                    SpongeScheduler scheduler = SpongeScheduler.getInstance();
+                    src.sendMessage(Texts.of("Sync tasks (deferrals / chronically deferred / budget overruns): ",
+                            scheduler.getSyncDeferrals(), " / ", scheduler.getSyncChronicDeferrals(), " / ", scheduler.getSyncOverruns()));
+                    TextBuilder build = Texts.builder("Async tasks (queued / running / completed / avg wait ms / max wait ms / run ms):");
+                    for (PluginTaskStats stats : scheduler.getAsyncTaskStats()) {
+                        double millis = TimeUnit.MILLISECONDS.toNanos(1);
+                        long started = stats.getCompleted() + stats.getRunning();
+                        build.append(NEWLINE_TEXT, Texts.of(INDENT, title(stats.getPlugin().getId()), ": ",
+                                stats.getQueued(), " / ", stats.getRunning(), " / ", stats.getCompleted(), " / ",
+                                String.format("%.2f", started == 0 ? 0 : stats.getTotalWaitNanos() / millis / started), " / ",
+                                String.format("%.2f", stats.getMaxWaitNanos() / millis), " / ",
+                                String.format("%.2f", stats.getTotalRunNanos() / millis)));
+                    }
+                    src.sendMessage(build.build());
+                    return CommandResult.success();
+                })
+                .build();
+    }
 }
@@ -0,0 +1,187 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.command;
+
+import com.google.gson.stream.JsonWriter;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.event.ListenerTimings;
+import org.spongepowered.common.event.RegisteredListener;
+
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+public class EventTimingsHelper {
+
+    /**
+     * The combined timings of all listeners of a plugin for one event type.
+     */
+    public static final class Entry {
+
+        private final PluginContainer plugin;
+        private final Class<?> eventClass;
+        private long count;
+        private long totalNanos;
+        private long maxNanos;
+        private final long[] histogram = new long[ListenerTimings.getBucketCount()];
+
+        Entry(PluginContainer plugin, Class<?> eventClass) {
+            this.plugin = plugin;
+            this.eventClass = eventClass;
+        }
+
+        void add(ListenerTimings timings) {
+            this.count += timings.getCount();
+            this.totalNanos += timings.getTotalNanos();
+            this.maxNanos = Math.max(this.maxNanos, timings.getMaxNanos());
+            long[] histogram = timings.getHistogram();
+            for (int i = 0; i < histogram.length; i++) {
+                this.histogram[i] += histogram[i];
+            }
+        }
+
+        public PluginContainer getPlugin() {
+            return this.plugin;
+        }
+
+        public Class<?> getEventClass() {
+            return this.eventClass;
+        }
+
+        public long getCount() {
+            return this.count;
+        }
+
+        public long getTotalNanos() {
+            return this.totalNanos;
+        }
+
+        public long getMaxNanos() {
+            return this.maxNanos;
+        }
+
+        public long[] getHistogram() {
+            return this.histogram;
+        }
+    }
+
+    /**
+     * Collects the recorded timings of all registered listeners, grouped by
+     * plugin and event type and sorted by total time spent, most first.
+     *
+     * @return The timing entries
+     */
+    public static List<Entry> collect() {
+        Map<PluginContainer, Map<Class<?>, Entry>> entries = new LinkedHashMap<>();
+        for (RegisteredListener<?> listener : Sponge.getEventManager().getRegisteredListeners()) {
+            if (listener.getTimings().getCount() == 0) {
+                continue;
+            }
+            entries.computeIfAbsent(listener.getPlugin(), plugin -> new LinkedHashMap<>())
+                    .computeIfAbsent(listener.getEventClass(), eventClass -> new Entry(listener.getPlugin(), eventClass))
+                    .add(listener.getTimings());
+        }
+
+        List<Entry> result = new ArrayList<>();
+        entries.values().forEach(byEvent -> result.addAll(byEvent.values()));
+        Collections.sort(result, Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return result;
+    }
+
+    public static void reset() {
+        for (RegisteredListener<?> listener : Sponge.getEventManager().getRegisteredListeners()) {
+            listener.getTimings().reset();
+        }
+    }
+
+    public static void writeTimings(File file) {
+        try {
+            if (file.getParentFile() != null) {
+                file.getParentFile().mkdirs();
+            }
+
+            try (JsonWriter writer = new JsonWriter(new FileWriter(file))) {
+                writer.setIndent("  ");
+                writer.beginObject();
+
+                writer.name("histogramBounds").beginArray();
+                for (int i = 0; i < ListenerTimings.getBucketCount() - 1; i++) {
+                    writer.value(ListenerTimings.getBucketBound(i));
+                }
+                writer.endArray();
+
+                Map<PluginContainer, List<Entry>> byPlugin = new LinkedHashMap<>();
+                for (Entry entry : collect()) {
+                    byPlugin.computeIfAbsent(entry.getPlugin(), plugin -> new ArrayList<>()).add(entry);
+                }
+
+                writer.name("plugins").beginArray();
+                for (Map.Entry<PluginContainer, List<Entry>> plugin : byPlugin.entrySet()) {
+                    long totalNanos = 0;
+                    for (Entry entry : plugin.getValue()) {
+                        totalNanos += entry.getTotalNanos();
+                    }
+
+                    writer.beginObject();
+                    writer.name("id").value(plugin.getKey().getId());
+                    writer.name("totalNanos").value(totalNanos);
+                    writer.name("events").beginArray();
+                    for (Entry entry : plugin.getValue()) {
+                        writeEntry(writer, entry);
+                    }
+                    writer.endArray();
+                    writer.endObject();
+                }
+                writer.endArray();
+
+                writer.endObject();
+            }
+        } catch (IOException e) {
+            Sponge.getLogger().error("Could not save event timings to {}", file, e);
+        }
+    }
+
+    private static void writeEntry(JsonWriter writer, Entry entry) throws IOException {
+        writer.beginObject();
+        writer.name("event").value(entry.getEventClass().getName());
+        writer.name("count").value(entry.getCount());
+        writer.name("totalNanos").value(entry.getTotalNanos());
+        writer.name("maxNanos").value(entry.getMaxNanos());
+        writer.name("histogram").beginArray();
+        for (long count : entry.getHistogram()) {
+            writer.value(count);
+        }
+        writer.endArray();
+        writer.endObject();
+    }
+
+}
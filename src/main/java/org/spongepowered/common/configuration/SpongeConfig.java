@@ -96,6 +96,34 @@ public enum Type {
     // BUNGEECORD
     public static final String BUNGEECORD_IP_FORWARDING = "ip-forwarding";
 
+    // EVENTS
+    public static final String EVENTS_LISTENER_DISPATCHERS = "listener-dispatchers";
+    public static final String EVENTS_COALESCE_PLAYER_MOVEMENT = "coalesce-player-movement";
+
+    // SCHEDULER
+    public static final String SCHEDULER_ASYNC_THREADS = "async-threads";
+    public static final String SCHEDULER_DEFAULT_PLUGIN_ASYNC_LIMIT = "default-plugin-async-limit";
+    public static final String SCHEDULER_PLUGIN_ASYNC_LIMITS = "plugin-async-limits";
+    public static final String SCHEDULER_PLUGIN_ASYNC_WEIGHTS = "plugin-async-weights";
+    public static final String SCHEDULER_SYNC_TICK_BUDGET = "sync-tick-budget";
+    public static final String SCHEDULER_CHRONIC_DEFERRAL_TICKS = "chronic-deferral-ticks";
+    public static final String SCHEDULER_TASK_REPORT_INTERVAL = "task-report-interval";
+    public static final String SCHEDULER_TASK_REPORT_COUNT = "task-report-count";
+
+    // STORAGE
+    public static final String STORAGE_CHUNK_IO_THREADS = "chunk-io-threads";
+    public static final String STORAGE_CHUNK_COMPRESSION = "chunk-compression";
+    public static final String STORAGE_MAPPED_REGION_READS = "mapped-region-reads";
+
+    // WORLD TICK
+    public static final String WORLD_TICK = "world-tick";
+    public static final String WORLD_TICK_PARALLEL = "parallel";
+    public static final String WORLD_TICK_PARALLEL_THREADS = "parallel-threads";
+
+    // TILE ENTITY TICK
+    public static final String TILE_ENTITY_TICK = "tile-entity-tick";
+    public static final String TILE_ENTITY_TICK_INTERVALS = "tick-intervals";
+
     // GENERAL
     public static final String GENERAL_DISABLE_WARNINGS = "disable-warnings";
     public static final String GENERAL_CHUNK_LOAD_OVERRIDE = "chunk-load-override";
@@ -126,6 +154,7 @@ public enum Type {
     // WORLD
     public static final String WORLD_INFINITE_WATER_SOURCE = "infinite-water-source";
     public static final String WORLD_FLOWING_LAVA_DECAY = "flowing-lava-decay";
+    public static final String WORLD_COUPLED_TICK = "coupled-tick";
 
     private static final String HEADER = "1.0\n"
             + "\n"
@@ -141,6 +170,8 @@ public enum Type {
             .setHeader(HEADER));
     private ObjectMapper<T>.BoundInstance configMapper;
     private T configBase;
+    // Incremented each time the settings are loaded or changed
+    private volatile int revision;
     private String modId;
     private String configName;
     @SuppressWarnings("unused")
@@ -198,6 +229,7 @@ public void reload() {
                             TypeSerializers.getDefaultSerializers().newChild().registerType(TypeToken.of(IpSet.class), new IpSet.IpSetSerializer()))
                     .setHeader(HEADER));
             this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+            this.revision++;
         } catch (IOException | ObjectMappingException e) {
             LogManager.getLogger().error(ExceptionUtils.getStackTrace(e));
         }
@@ -208,11 +240,22 @@ public CompletableFuture<CommentedConfigurationNode> updateSetting(String key, O
             CommentedConfigurationNode upd = getSetting(key);
             upd.setValue(value);
             this.configBase = this.configMapper.populate(this.root.getNode(this.modId));
+            this.revision++;
             this.loader.save(this.root);
             return upd;
         }, ForkJoinPool.commonPool());
     }
 
+    /**
+     * Gets a number that changes each time the settings are reloaded or
+     * changed, so values derived from them can be cached.
+     *
+     * @return The revision of the settings
+     */
+    public int getRevision() {
+        return this.revision;
+    }
+
     public CommentedConfigurationNode getRootNode() {
         return this.root.getNode(this.modId);
     }
@@ -254,10 +297,38 @@ public static class GlobalConfig extends ConfigBase {
         @Setting(value = MODULE_BUNGEECORD)
         private BungeeCordCategory bungeeCord = new BungeeCordCategory();
 
+        @Setting
+        private EventsCategory events = new EventsCategory();
+
+        @Setting
+        private SchedulerCategory scheduler = new SchedulerCategory();
+
+        @Setting
+        private StorageCategory storage = new StorageCategory();
+
+        @Setting(value = WORLD_TICK)
+        private WorldTickCategory worldTick = new WorldTickCategory();
+
         public BungeeCordCategory getBungeeCord() {
             return this.bungeeCord;
         }
 
+        public EventsCategory getEvents() {
+            return this.events;
+        }
+
+        public SchedulerCategory getScheduler() {
+            return this.scheduler;
+        }
+
+        public StorageCategory getStorage() {
+            return this.storage;
+        }
+
+        public WorldTickCategory getWorldTick() {
+            return this.worldTick;
+        }
+
         public SqlCategory getSql() {
             return this.sql;
         }
@@ -339,6 +410,8 @@ public static class ConfigBase {
         private GeneralCategory general = new GeneralCategory();
         @Setting
         private LoggingCategory logging = new LoggingCategory();
+        @Setting(value = TILE_ENTITY_TICK)
+        private TileEntityTickCategory tileEntityTick = new TileEntityTickCategory();
         @Setting
         private WorldCategory world = new WorldCategory();
 
@@ -366,6 +439,10 @@ public LoggingCategory getLogging() {
             return this.logging;
         }
 
+        public TileEntityTickCategory getTileEntityTick() {
+            return this.tileEntityTick;
+        }
+
         public WorldCategory getWorld() {
             return this.world;
         }
@@ -542,6 +619,212 @@ public boolean getIpForwarding() {
         }
     }
 
+    @ConfigSerializable
+    public static class EventsCategory extends Category {
+
+        @Setting(value = EVENTS_LISTENER_DISPATCHERS,
+                comment = "Generate one dispatcher class per listener object type instead of one class per listener method. "
+                        + "Reduces the number of generated classes for plugins with many listeners")
+        private boolean listenerDispatchers = false;
+        @Setting(value = EVENTS_COALESCE_PLAYER_MOVEMENT,
+                comment = "Fire at most one player move event per player and tick for all movement packets received in that tick. "
+                        + "If the event is cancelled, the player is moved back to the last accepted location")
+        private boolean coalescePlayerMovement = false;
+
+        public boolean useListenerDispatchers() {
+            return this.listenerDispatchers;
+        }
+
+        public void setListenerDispatchers(boolean listenerDispatchers) {
+            this.listenerDispatchers = listenerDispatchers;
+        }
+
+        public boolean coalescePlayerMovement() {
+            return this.coalescePlayerMovement;
+        }
+
+        public void setCoalescePlayerMovement(boolean coalescePlayerMovement) {
+            this.coalescePlayerMovement = coalescePlayerMovement;
+        }
+    }
+
+    @ConfigSerializable
+    public static class SchedulerCategory extends Category {
+
+        @Setting(value = SCHEDULER_ASYNC_THREADS,
+                comment = "The maximum number of threads running asynchronous tasks. Set to 0 to use the number of processors, at least 4")
+        private int asyncThreads = 0;
+        @Setting(value = SCHEDULER_DEFAULT_PLUGIN_ASYNC_LIMIT,
+                comment = "The maximum number of asynchronous tasks of a single plugin that may run at the same time. Set to 0 to disable")
+        private int defaultPluginAsyncLimit = 0;
+        @Setting(value = SCHEDULER_PLUGIN_ASYNC_LIMITS,
+                comment = "A mapping from plugin id to the maximum number of asynchronous tasks of that plugin that may run at the same time")
+        private Map<String, Integer> pluginAsyncLimits = new HashMap<>();
+        @Setting(value = SCHEDULER_PLUGIN_ASYNC_WEIGHTS,
+                comment = "A mapping from plugin id to the share of asynchronous task run time that plugin gets compared to others. "
+                        + "The default weight is 1")
+        private Map<String, Double> pluginAsyncWeights = new HashMap<>();
+        @Setting(value = SCHEDULER_SYNC_TICK_BUDGET,
+                comment = "The time in milliseconds synchronous tasks may run each tick. Due tasks left over are deferred to the next tick. "
+                        + "Set to 0 to disable")
+        private int syncTickBudget = 0;
+        @Setting(value = SCHEDULER_CHRONIC_DEFERRAL_TICKS,
+                comment = "The number of ticks a synchronous task may be deferred before it is reported as chronically deferred")
+        private int chronicDeferralTicks = 20;
+        @Setting(value = SCHEDULER_TASK_REPORT_INTERVAL,
+                comment = "The interval in seconds at which the plugins whose scheduler tasks took the most time are logged. "
+                        + "Set to 0 to disable")
+        private int taskReportInterval = 0;
+        @Setting(value = SCHEDULER_TASK_REPORT_COUNT, comment = "The maximum number of plugins listed in each task report")
+        private int taskReportCount = 5;
+
+        public int getAsyncThreads() {
+            return this.asyncThreads;
+        }
+
+        public void setAsyncThreads(int asyncThreads) {
+            this.asyncThreads = asyncThreads;
+        }
+
+        public int getDefaultPluginAsyncLimit() {
+            return this.defaultPluginAsyncLimit;
+        }
+
+        public void setDefaultPluginAsyncLimit(int defaultPluginAsyncLimit) {
+            this.defaultPluginAsyncLimit = defaultPluginAsyncLimit;
+        }
+
+        public Map<String, Integer> getPluginAsyncLimits() {
+            return this.pluginAsyncLimits;
+        }
+
+        public Map<String, Double> getPluginAsyncWeights() {
+            return this.pluginAsyncWeights;
+        }
+
+        public int getSyncTickBudget() {
+            return this.syncTickBudget;
+        }
+
+        public void setSyncTickBudget(int syncTickBudget) {
+            this.syncTickBudget = syncTickBudget;
+        }
+
+        public int getChronicDeferralTicks() {
+            return this.chronicDeferralTicks;
+        }
+
+        public void setChronicDeferralTicks(int chronicDeferralTicks) {
+            this.chronicDeferralTicks = chronicDeferralTicks;
+        }
+
+        public int getTaskReportInterval() {
+            return this.taskReportInterval;
+        }
+
+        public void setTaskReportInterval(int taskReportInterval) {
+            this.taskReportInterval = taskReportInterval;
+        }
+
+        public int getTaskReportCount() {
+            return this.taskReportCount;
+        }
+
+        public void setTaskReportCount(int taskReportCount) {
+            this.taskReportCount = taskReportCount;
+        }
+    }
+
+    @ConfigSerializable
+    public static class StorageCategory extends Category {
+
+        @Setting(value = STORAGE_CHUNK_IO_THREADS,
+                comment = "The number of threads reading chunk data from disk ahead of chunk loads. "
+                        + "Set to 0 to use half the number of processors, at least 2")
+        private int chunkIOThreads = 0;
+        @Setting(value = STORAGE_CHUNK_COMPRESSION,
+                comment = "The compression of chunks written to region files: gzip, deflate or lz4. Chunks are always read in the compression "
+                        + "they were written with. New worlds store lz4 chunks in the sponge-lz4 folder, which vanilla ignores. Existing "
+                        + "worlds keep their compression until they are converted with RegionConverter")
+        private String chunkCompression = "deflate";
+        @Setting(value = STORAGE_MAPPED_REGION_READS,
+                comment = "Read chunks from memory mapped region files, decompressing them without intermediate copies")
+        private boolean mappedRegionReads = false;
+
+        public int getChunkIOThreads() {
+            return this.chunkIOThreads;
+        }
+
+        public void setChunkIOThreads(int chunkIOThreads) {
+            this.chunkIOThreads = chunkIOThreads;
+        }
+
+        public String getChunkCompression() {
+            return this.chunkCompression;
+        }
+
+        public void setChunkCompression(String chunkCompression) {
+            this.chunkCompression = chunkCompression;
+        }
+
+        public boolean useMappedRegionReads() {
+            return this.mappedRegionReads;
+        }
+
+        public void setMappedRegionReads(boolean mappedRegionReads) {
+            this.mappedRegionReads = mappedRegionReads;
+        }
+    }
+
+    @ConfigSerializable
+    public static class WorldTickCategory extends Category {
+
+        @Setting(value = WORLD_TICK_PARALLEL, comment = "Send the entity updates of all worlds to their players in parallel, after the worlds "
+                + "ticked on the main thread. Events fired meanwhile are posted once all worlds are done and cannot be cancelled. "
+                + "Worlds sharing a map storage are handled one after another, worlds with coupled-tick enabled on the main thread")
+        private boolean parallel = false;
+        @Setting(value = WORLD_TICK_PARALLEL_THREADS, comment = "The number of threads updating worlds in parallel, 0 to use one per processor")
+        private int parallelThreads = 0;
+
+        public boolean isParallel() {
+            return this.parallel;
+        }
+
+        public void setParallel(boolean parallel) {
+            this.parallel = parallel;
+        }
+
+        public int getParallelThreads() {
+            return this.parallelThreads;
+        }
+
+        public void setParallelThreads(int parallelThreads) {
+            this.parallelThreads = parallelThreads;
+        }
+    }
+
+    @ConfigSerializable
+    public static class TileEntityTickCategory extends Category {
+
+        @Setting(value = TILE_ENTITY_TICK_INTERVALS,
+                comment = "A mapping from tile entity type id (e.g. hopper, furnace) to the number of ticks between updates. "
+                        + "Tile entities of other types update every tick. A tile entity that is changed from outside "
+                        + "(e.g. an item is inserted) updates on the next tick regardless")
+        private Map<String, Integer> tickIntervals = new HashMap<>();
+
+        public Map<String, Integer> getTickIntervals() {
+            return this.tickIntervals;
+        }
+
+        public int getTickInterval(String tileEntityTypeId) {
+            Integer interval = this.tickIntervals.get(tileEntityTypeId);
+            if (interval == null) {
+                interval = this.tickIntervals.get(tileEntityTypeId.toLowerCase());
+            }
+            return interval == null || interval < 1 ? 1 : interval;
+        }
+    }
+
     @ConfigSerializable
     public static class EntityActivationRangeCategory extends Category {
 
@@ -776,6 +1059,9 @@ public static class WorldCategory extends Category {
         private boolean infiniteWaterSource = false;
         @Setting(value = WORLD_FLOWING_LAVA_DECAY, comment = "Lava behaves like vanilla water when source block is removed")
         private boolean flowingLavaDecay = false;
+        @Setting(value = WORLD_COUPLED_TICK, comment = "Always send the entity updates of this world on the main thread, even if worlds are "
+                + "updated in parallel. Use this for worlds whose mods access other worlds while tracking entities")
+        private boolean coupledTick = false;
 
         public boolean hasInfiniteWaterSource() {
             return this.infiniteWaterSource;
@@ -792,6 +1078,14 @@ public boolean hasFlowingLavaDecay() {
         public void setFlowingLavaDecay(boolean flowingLavaDecay) {
             this.flowingLavaDecay = flowingLavaDecay;
         }
+
+        public boolean isCoupledTick() {
+            return this.coupledTick;
+        }
+
+        public void setCoupledTick(boolean coupledTick) {
+            this.coupledTick = coupledTick;
+        }
     }
 
     @ConfigSerializable
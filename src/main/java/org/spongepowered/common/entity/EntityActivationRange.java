@@ -0,0 +1,260 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.entity;
+
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityAgeable;
+import net.minecraft.entity.EntityCreature;
+import net.minecraft.entity.EntityLiving;
+import net.minecraft.entity.EntityLivingBase;
+import net.minecraft.entity.IProjectile;
+import net.minecraft.entity.boss.EntityDragon;
+import net.minecraft.entity.boss.EntityDragonPart;
+import net.minecraft.entity.boss.EntityWither;
+import net.minecraft.entity.effect.EntityWeatherEffect;
+import net.minecraft.entity.item.EntityEnderCrystal;
+import net.minecraft.entity.item.EntityFallingBlock;
+import net.minecraft.entity.item.EntityFireworkRocket;
+import net.minecraft.entity.item.EntityTNTPrimed;
+import net.minecraft.entity.monster.EntityCreeper;
+import net.minecraft.entity.monster.IMob;
+import net.minecraft.entity.passive.EntityAmbientCreature;
+import net.minecraft.entity.passive.EntityAnimal;
+import net.minecraft.entity.passive.EntityVillager;
+import net.minecraft.entity.passive.EntityWaterMob;
+import net.minecraft.entity.player.EntityPlayer;
+import net.minecraft.entity.projectile.EntityFireball;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.world.World;
+import org.spongepowered.api.Server;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.util.List;
+
+/**
+ * Decides once per tick which entities are close enough to a player to
+ * receive a full update. Entities outside the activation range of their
+ * type only get a minimal tick, unless they are in a state that would
+ * look broken when frozen (burning, riding, recently damaged and similar).
+ */
+public final class EntityActivationRange {
+
+    public static final byte ACTIVATION_TYPE_MISC = 0;
+    public static final byte ACTIVATION_TYPE_MONSTER = 1;
+    public static final byte ACTIVATION_TYPE_CREATURE = 2;
+    public static final byte ACTIVATION_TYPE_AQUATIC = 3;
+    public static final byte ACTIVATION_TYPE_AMBIENT = 4;
+
+    /**
+     * Inactive entities get a full tick this often, so that immunities are
+     * noticed and despawn checks still run.
+     */
+    private static final int INACTIVE_WAKEUP_INTERVAL = 20;
+
+    /**
+     * Determines the activation type of a newly constructed entity.
+     *
+     * @param entity The entity
+     * @return The activation type
+     */
+    public static byte initializeEntityActivationType(Entity entity) {
+        if (entity instanceof IMob) {
+            return ACTIVATION_TYPE_MONSTER;
+        } else if (entity instanceof EntityWaterMob) {
+            return ACTIVATION_TYPE_AQUATIC;
+        } else if (entity instanceof EntityAmbientCreature) {
+            return ACTIVATION_TYPE_AMBIENT;
+        } else if (entity instanceof EntityCreature) {
+            return ACTIVATION_TYPE_CREATURE;
+        }
+        return ACTIVATION_TYPE_MISC;
+    }
+
+    /**
+     * Determines whether an entity is always ticked, regardless of its
+     * distance to players.
+     *
+     * @param entity The entity
+     * @param activationType The activation type of the entity
+     * @return True if the entity is always active
+     */
+    public static boolean initializeEntityActivationState(Entity entity, byte activationType) {
+        if (entity instanceof EntityPlayer
+                || entity instanceof IProjectile
+                || entity instanceof EntityFireball
+                || entity instanceof EntityDragon
+                || entity instanceof EntityDragonPart
+                || entity instanceof EntityWither
+                || entity instanceof EntityWeatherEffect
+                || entity instanceof EntityTNTPrimed
+                || entity instanceof EntityFallingBlock
+                || entity instanceof EntityEnderCrystal
+                || entity instanceof EntityFireworkRocket) {
+            return true;
+        }
+        // Entities can be constructed without a world, e.g. by EntityList
+        return entity.worldObj != null && !entity.worldObj.isRemote && getRange(getConfig(entity.worldObj), activationType) <= 0;
+    }
+
+    /**
+     * Marks every entity that is within the activation range of a player as
+     * active for the current tick.
+     *
+     * @param world The world whose entities are about to be updated
+     */
+    @SuppressWarnings("unchecked")
+    public static void activateEntities(World world) {
+        if (world.isRemote || !Sponge.getGlobalConfig().getConfig().getModules().usePluginEntityActivation()) {
+            return;
+        }
+
+        final SpongeConfig.EntityActivationRangeCategory config = getConfig(world);
+        final long currentTick = getCurrentTick();
+        final List<EntityPlayer> players = world.playerEntities;
+        final int playerCount = players.size();
+        final double[] playerX = new double[playerCount];
+        final double[] playerZ = new double[playerCount];
+        for (int i = 0; i < playerCount; i++) {
+            final EntityPlayer player = players.get(i);
+            ((IMixinEntity) player).setActivatedTick(currentTick);
+            playerX[i] = player.posX;
+            playerZ[i] = player.posZ;
+        }
+
+        for (Entity entity : (List<Entity>) world.loadedEntityList) {
+            final IMixinEntity spongeEntity = (IMixinEntity) entity;
+            if (spongeEntity.getActivatedTick() >= currentTick) {
+                continue;
+            }
+            if (spongeEntity.getDefaultActivationState()) {
+                spongeEntity.setActivatedTick(currentTick);
+                continue;
+            }
+            final int range = getRange(config, spongeEntity.getActivationType());
+            final double rangeSquared = (double) range * range;
+            for (int i = 0; i < playerCount; i++) {
+                final double dx = entity.posX - playerX[i];
+                final double dz = entity.posZ - playerZ[i];
+                if (dx * dx + dz * dz <= rangeSquared) {
+                    spongeEntity.setActivatedTick(currentTick);
+                    break;
+                }
+            }
+        }
+    }
+
+    /**
+     * Checks whether an entity should receive a full update this tick.
+     *
+     * @param entity The entity about to be updated
+     * @return True if the entity should be fully updated
+     */
+    public static boolean checkIfActive(Entity entity) {
+        if (entity.worldObj.isRemote || !Sponge.getGlobalConfig().getConfig().getModules().usePluginEntityActivation()) {
+            return true;
+        }
+
+        final IMixinEntity spongeEntity = (IMixinEntity) entity;
+        final long currentTick = getCurrentTick();
+        if (spongeEntity.getDefaultActivationState() || spongeEntity.getActivatedTick() >= currentTick) {
+            return true;
+        }
+        if ((currentTick - spongeEntity.getActivatedTick() - 1) % INACTIVE_WAKEUP_INTERVAL == 0) {
+            if (checkEntityImmunities(entity)) {
+                // Stay fully active until the next wake up, then check again
+                spongeEntity.setActivatedTick(currentTick + INACTIVE_WAKEUP_INTERVAL);
+            }
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Checks for states in which freezing the entity would be noticeable.
+     *
+     * @param entity The entity
+     * @return True if the entity has to keep ticking
+     */
+    private static boolean checkEntityImmunities(Entity entity) {
+        if (entity.isInWater() || entity.isBurning()) {
+            return true;
+        }
+        if (!entity.onGround || entity.riddenByEntity != null || entity.ridingEntity != null) {
+            return true;
+        }
+        if (entity instanceof EntityLivingBase) {
+            final EntityLivingBase living = (EntityLivingBase) entity;
+            if (living.hurtTime > 0 || !living.getActivePotionEffects().isEmpty()) {
+                return true;
+            }
+            if (entity instanceof EntityLiving && ((EntityLiving) entity).getAttackTarget() != null) {
+                return true;
+            }
+            if (entity instanceof EntityAgeable && ((EntityAgeable) entity).isChild()) {
+                return true;
+            }
+            if (entity instanceof EntityAnimal && ((EntityAnimal) entity).isInLove()) {
+                return true;
+            }
+            if (entity instanceof EntityVillager && ((EntityVillager) entity).isMating()) {
+                return true;
+            }
+            if (entity instanceof EntityCreeper && ((EntityCreeper) entity).getCreeperState() > 0) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static SpongeConfig.EntityActivationRangeCategory getConfig(World world) {
+        return SpongeHooks.getActiveConfig(world).getConfig().getEntityActivationRange();
+    }
+
+    private static int getRange(SpongeConfig.EntityActivationRangeCategory config, byte activationType) {
+        switch (activationType) {
+            case ACTIVATION_TYPE_MONSTER:
+                return config.getMonsterActivationRange();
+            case ACTIVATION_TYPE_CREATURE:
+                return config.getCreatureActivationRange();
+            case ACTIVATION_TYPE_AQUATIC:
+                return config.getAquaticActivationRange();
+            case ACTIVATION_TYPE_AMBIENT:
+                return config.getAmbientActivationRange();
+            default:
+                return config.getMiscActivationRange();
+        }
+    }
+
+    private static long getCurrentTick() {
+        return ((Server) MinecraftServer.getServer()).getRunningTimeTicks();
+    }
+
+    private EntityActivationRange() {
+    }
+
+}
@@ -0,0 +1,243 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static org.objectweb.asm.Opcodes.ACC_FINAL;
+import static org.objectweb.asm.Opcodes.ACC_PUBLIC;
+import static org.objectweb.asm.Opcodes.ACC_SUPER;
+import static org.objectweb.asm.Opcodes.ALOAD;
+import static org.objectweb.asm.Opcodes.CHECKCAST;
+import static org.objectweb.asm.Opcodes.GETFIELD;
+import static org.objectweb.asm.Opcodes.ILOAD;
+import static org.objectweb.asm.Opcodes.INVOKESPECIAL;
+import static org.objectweb.asm.Opcodes.INVOKEVIRTUAL;
+import static org.objectweb.asm.Opcodes.RETURN;
+import static org.objectweb.asm.Opcodes.V1_6;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableMap;
+import org.objectweb.asm.ClassWriter;
+import org.objectweb.asm.Label;
+import org.objectweb.asm.MethodVisitor;
+import org.objectweb.asm.Type;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.Listener;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An alternative to the {@link ClassEventListenerFactory} that generates a
+ * single {@link EventDispatcher} class for each listener type instead of one
+ * class for every listener method. The dispatcher selects the method to call
+ * with a switch on the index of the listener method.
+ */
+public final class DispatcherEventListenerFactory implements AnnotatedEventListener.Factory {
+
+    private final AtomicInteger id = new AtomicInteger();
+    private final LocalClassLoader classLoader = new LocalClassLoader(getClass().getClassLoader());
+    // The generated class references the listener type, so the entries are
+    // only kept while a registered listener holds on to the value
+    private final LoadingCache<Class<?>, DispatcherClass> classes = CacheBuilder.newBuilder()
+            .concurrencyLevel(1)
+            .weakValues()
+            .build(new CacheLoader<Class<?>, DispatcherClass>() {
+
+                @Override
+                public DispatcherClass load(Class<?> handle) throws Exception {
+                    return createClass(handle);
+                }
+            });
+
+    // Listener objects are compared by identity, so each object gets exactly one dispatcher.
+    // The dispatcher references the listener object, so it is only kept while it is registered.
+    private final LoadingCache<Object, EventDispatcher> dispatchers = CacheBuilder.newBuilder()
+            .weakKeys()
+            .weakValues()
+            .build(new CacheLoader<Object, EventDispatcher>() {
+
+                @Override
+                public EventDispatcher load(Object handle) throws Exception {
+                    return DispatcherEventListenerFactory.this.classes.get(handle.getClass()).type
+                            .getConstructor(handle.getClass())
+                            .newInstance(handle);
+                }
+            });
+
+    private final String targetPackage;
+
+    public DispatcherEventListenerFactory(String targetPackage) {
+        checkNotNull(targetPackage, "targetPackage");
+        checkArgument(!targetPackage.isEmpty(), "targetPackage cannot be empty");
+        this.targetPackage = targetPackage + '.';
+    }
+
+    @Override
+    public AnnotatedEventListener create(Object handle, Method method) throws Exception {
+        DispatcherClass dispatcherClass = this.classes.get(handle.getClass());
+        Integer id = dispatcherClass.ids.get(method);
+        checkArgument(id != null, "%s is not a listener method of %s", method, handle.getClass());
+        return new DispatchedListener(handle, dispatcherClass, this.dispatchers.get(handle), id);
+    }
+
+    private DispatcherClass createClass(Class<?> handle) {
+        List<Method> methods = new ArrayList<>();
+        ImmutableMap.Builder<Method, Integer> ids = ImmutableMap.builder();
+        for (Method method : handle.getMethods()) {
+            if (method.isAnnotationPresent(Listener.class) && isDispatchable(method)) {
+                ids.put(method, methods.size());
+                methods.add(method);
+            }
+        }
+
+        String name = this.targetPackage + handle.getSimpleName() + "Dispatcher" + this.id.incrementAndGet();
+        Class<? extends EventDispatcher> type = this.classLoader.defineClass(name, generateClass(name, handle, methods));
+        return new DispatcherClass(type, ids.build());
+    }
+
+    private static boolean isDispatchable(Method method) {
+        int modifiers = method.getModifiers();
+        Class<?>[] parameters = method.getParameterTypes();
+        return !Modifier.isStatic(modifiers) && !Modifier.isAbstract(modifiers) && method.getReturnType() == void.class
+                && parameters.length == 1 && Event.class.isAssignableFrom(parameters[0]);
+    }
+
+    private static final String BASE_DISPATCHER = Type.getInternalName(EventDispatcher.class);
+    private static final String HANDLE_METHOD_DESCRIPTOR = "(I" + Type.getDescriptor(Event.class) + ")V";
+
+    private static byte[] generateClass(String name, Class<?> handle, List<Method> methods) {
+        name = name.replace('.', '/');
+        final String handleName = Type.getInternalName(handle);
+        final String handleDescriptor = Type.getDescriptor(handle);
+
+        ClassWriter cw = new ClassWriter(ClassWriter.COMPUTE_MAXS);
+        MethodVisitor mv;
+
+        cw.visit(V1_6, ACC_PUBLIC + ACC_FINAL + ACC_SUPER, name, null, BASE_DISPATCHER, null);
+
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "<init>", '(' + handleDescriptor + ")V", null, null);
+            mv.visitCode();
+            mv.visitVarInsn(ALOAD, 0);
+            mv.visitVarInsn(ALOAD, 1);
+            mv.visitMethodInsn(INVOKESPECIAL, BASE_DISPATCHER, "<init>", "(Ljava/lang/Object;)V", false);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        {
+            mv = cw.visitMethod(ACC_PUBLIC, "handle", HANDLE_METHOD_DESCRIPTOR, null, new String[] {"java/lang/Exception"});
+            mv.visitCode();
+
+            Label defaultLabel = new Label();
+            Label[] labels = new Label[methods.size()];
+            for (int i = 0; i < labels.length; i++) {
+                labels[i] = new Label();
+            }
+
+            if (labels.length > 0) {
+                mv.visitVarInsn(ILOAD, 1);
+                mv.visitTableSwitchInsn(0, labels.length - 1, defaultLabel, labels);
+
+                for (int i = 0; i < labels.length; i++) {
+                    Method method = methods.get(i);
+                    String eventName = Type.getInternalName(method.getParameterTypes()[0]);
+
+                    mv.visitLabel(labels[i]);
+                    mv.visitVarInsn(ALOAD, 0);
+                    mv.visitFieldInsn(GETFIELD, name, "handle", "Ljava/lang/Object;");
+                    mv.visitTypeInsn(CHECKCAST, handleName);
+                    mv.visitVarInsn(ALOAD, 2);
+                    mv.visitTypeInsn(CHECKCAST, eventName);
+                    mv.visitMethodInsn(INVOKEVIRTUAL, handleName, method.getName(), "(L" + eventName + ";)V", false);
+                    mv.visitInsn(RETURN);
+                }
+            }
+
+            mv.visitLabel(defaultLabel);
+            mv.visitInsn(RETURN);
+            mv.visitMaxs(0, 0);
+            mv.visitEnd();
+        }
+        cw.visitEnd();
+
+        return cw.toByteArray();
+    }
+
+    private static final class DispatcherClass {
+
+        final Class<? extends EventDispatcher> type;
+        final ImmutableMap<Method, Integer> ids;
+
+        DispatcherClass(Class<? extends EventDispatcher> type, ImmutableMap<Method, Integer> ids) {
+            this.type = type;
+            this.ids = ids;
+        }
+
+    }
+
+    private static final class DispatchedListener extends AnnotatedEventListener {
+
+        // Keeps the cached dispatcher class alive while this listener is used
+        @SuppressWarnings("unused")
+        private final DispatcherClass dispatcherClass;
+        private final EventDispatcher dispatcher;
+        private final int id;
+
+        DispatchedListener(Object handle, DispatcherClass dispatcherClass, EventDispatcher dispatcher, int id) {
+            super(handle);
+            this.dispatcherClass = dispatcherClass;
+            this.dispatcher = dispatcher;
+            this.id = id;
+        }
+
+        @Override
+        public void handle(Event event) throws Exception {
+            this.dispatcher.handle(this.id, event);
+        }
+
+    }
+
+    private static class LocalClassLoader extends ClassLoader {
+
+        private LocalClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @SuppressWarnings("unchecked")
+        private <T> Class<T> defineClass(String name, byte[] b) {
+            return (Class<T>) defineClass(name, b, 0, b.length);
+        }
+
+    }
+
+}
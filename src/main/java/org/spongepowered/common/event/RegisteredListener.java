@@ -26,16 +26,19 @@
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.collect.Lists;
-import com.google.common.collect.Maps;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
 import org.spongepowered.api.event.Order;
 import org.spongepowered.api.plugin.PluginContainer;
 
-import java.util.EnumMap;
 import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
 
 public final class RegisteredListener<T extends Event> implements SpongeEventListener<T>, Comparable<RegisteredListener<?>> {
 
@@ -48,14 +51,21 @@
 
     private final boolean ignoreCancelled;
     private final boolean beforeModifications;
+    private final boolean asyncSafe;
+    @Nullable private final WorldScope scope;
+
+    private final ListenerTimings timings = new ListenerTimings();
 
-    RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> listener, boolean ignoreCancelled, boolean beforeModifications) {
+    RegisteredListener(PluginContainer plugin, Class<T> eventClass, Order order, EventListener<? super T> listener, boolean ignoreCancelled,
+            boolean beforeModifications, boolean asyncSafe, @Nullable WorldScope scope) {
         this.plugin = checkNotNull(plugin, "plugin");
         this.eventClass = checkNotNull(eventClass, "eventClass");
         this.order = checkNotNull(order, "order");
         this.listener = checkNotNull(listener, "listener");
         this.ignoreCancelled = ignoreCancelled;
         this.beforeModifications = beforeModifications;
+        this.asyncSafe = asyncSafe;
+        this.scope = scope;
     }
 
     public PluginContainer getPlugin() {
@@ -74,6 +84,25 @@ public boolean isBeforeModifications() {
         return this.beforeModifications;
     }
 
+    public boolean isAsyncSafe() {
+        return this.asyncSafe;
+    }
+
+    /**
+     * Gets the world scope of this listener, if it only receives events that
+     * happen in specific worlds.
+     *
+     * @return The world scope, or null if the listener receives all events
+     */
+    @Nullable
+    public WorldScope getScope() {
+        return this.scope;
+    }
+
+    public ListenerTimings getTimings() {
+        return this.timings;
+    }
+
     @Override
     public Object getHandle() {
         if (this.listener instanceof SpongeEventListener) {
@@ -88,7 +117,6 @@ public void handle(T event) throws Exception {
         if (this.ignoreCancelled && event instanceof Cancellable && ((Cancellable) event).isCancelled()) {
             return;
         }
-
         this.listener.handle(event);
     }
 
@@ -97,23 +125,62 @@ public int compareTo(RegisteredListener<?> handler) {
         return this.order.compareTo(handler.order);
     }
 
+    /**
+     * The baked listeners of an event type, sorted by order.
+     *
+     * <p>If some listeners are scoped to worlds, {@link #forWorld(UUID)}
+     * derives a cache with only the listeners for one world. Derived caches
+     * are kept, so events of a world always reach the same lists.</p>
+     */
     public static final class Cache {
 
-        private final List<RegisteredListener<?>> listeners;
-        private final EnumMap<Order, List<RegisteredListener<?>>> listenersByOrder;
+        private final ImmutableList<RegisteredListener<?>> listeners;
+        private final ImmutableList<RegisteredListener<?>>[] listenersByOrder;
+        private final boolean asyncSafe;
+
+        private final boolean hasScopedListeners;
+        @Nullable private final Cache unscoped;
+        private final ConcurrentMap<UUID, Cache> byWorld = new ConcurrentHashMap<>();
 
         private static final Order[] ORDERS = Order.values();
 
         Cache(List<RegisteredListener<?>> listeners) {
-            this.listeners = listeners;
+            this(listeners, true);
+        }
+
+        @SuppressWarnings("unchecked")
+        private Cache(List<RegisteredListener<?>> listeners, boolean root) {
+            this.listeners = ImmutableList.copyOf(listeners);
+
+            boolean asyncSafe = true;
+            for (RegisteredListener<?> handler : listeners) {
+                asyncSafe &= handler.isAsyncSafe();
+            }
+            this.asyncSafe = asyncSafe;
+
+            ImmutableList.Builder<RegisteredListener<?>>[] builders = new ImmutableList.Builder[ORDERS.length];
+            for (int i = 0; i < builders.length; i++) {
+                builders[i] = ImmutableList.builder();
+            }
+            for (RegisteredListener<?> handler : listeners) {
+                builders[handler.getOrder().ordinal()].add(handler);
+            }
 
-            this.listenersByOrder = Maps.newEnumMap(Order.class);
-            for (Order order : ORDERS) {
-                this.listenersByOrder.put(order, Lists.<RegisteredListener<?>>newArrayList());
+            this.listenersByOrder = new ImmutableList[ORDERS.length];
+            for (int i = 0; i < builders.length; i++) {
+                this.listenersByOrder[i] = builders[i].build();
             }
+
+            ImmutableList.Builder<RegisteredListener<?>> unscoped = ImmutableList.builder();
             for (RegisteredListener<?> handler : listeners) {
-                this.listenersByOrder.get(handler.getOrder()).add(handler);
+                if (handler.getScope() == null) {
+                    unscoped.add(handler);
+                }
             }
+            List<RegisteredListener<?>> unscopedListeners = unscoped.build();
+            // Derived caches are already filtered for their world
+            this.hasScopedListeners = root && unscopedListeners.size() != this.listeners.size();
+            this.unscoped = this.hasScopedListeners ? new Cache(unscopedListeners, false) : null;
         }
 
         public List<RegisteredListener<?>> getListeners() {
@@ -121,7 +188,61 @@ public List<RegisteredListener<?>> getListeners() {
         }
 
         public List<RegisteredListener<?>> getListenersByOrder(Order order) {
-            return this.listenersByOrder.get(checkNotNull(order, "order"));
+            return this.listenersByOrder[checkNotNull(order, "order").ordinal()];
+        }
+
+        /**
+         * Gets the cache of the listeners which may receive an event that
+         * happened in the given world. Listeners that are scoped to other
+         * worlds are excluded.
+         *
+         * @param worldId The world id, or null if the event is not bound to a
+         *     world
+         * @return The cache for the world
+         */
+        public Cache forWorld(@Nullable UUID worldId) {
+            if (!this.hasScopedListeners) {
+                return this;
+            }
+            if (worldId == null) {
+                return this.unscoped;
+            }
+
+            Cache cache = this.byWorld.get(worldId);
+            if (cache == null) {
+                ImmutableList.Builder<RegisteredListener<?>> builder = ImmutableList.builder();
+                for (RegisteredListener<?> handler : this.listeners) {
+                    if (handler.getScope() == null || handler.getScope().matches(worldId)) {
+                        builder.add(handler);
+                    }
+                }
+                cache = new Cache(builder.build(), false);
+                this.byWorld.put(worldId, cache);
+            }
+            return cache;
+        }
+
+        /**
+         * Drops the cache derived for a world, once it was unloaded.
+         *
+         * @param worldId The world id
+         */
+        void invalidateWorld(UUID worldId) {
+            this.byWorld.remove(worldId);
+        }
+
+        public boolean hasScopedListeners() {
+            return this.hasScopedListeners;
+        }
+
+        /**
+         * Gets whether all listeners in this cache may be called from any
+         * thread, see {@link SpongeEventManager#postAsync(Event)}.
+         *
+         * @return True if all listeners are async safe
+         */
+        public boolean isAsyncSafe() {
+            return this.asyncSafe;
         }
 
     }
@@ -27,13 +27,12 @@
 import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 
-import com.google.common.cache.CacheBuilder;
-import com.google.common.cache.CacheLoader;
-import com.google.common.cache.LoadingCache;
 import com.google.common.collect.HashMultimap;
+import com.google.common.collect.ImmutableList;
 import com.google.common.collect.Lists;
 import com.google.common.collect.Multimap;
 import com.google.common.reflect.TypeToken;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import org.spongepowered.api.event.Cancellable;
 import org.spongepowered.api.event.Event;
 import org.spongepowered.api.event.EventListener;
@@ -43,43 +42,101 @@
 import org.spongepowered.api.plugin.PluginManager;
 import org.spongepowered.api.service.event.EventManager;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.Collection;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
 import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.Predicate;
 
+import javax.annotation.Nullable;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 
 @Singleton
 public class SpongeEventManager implements EventManager {
 
+    /**
+     * Whether the execution time of each listener should be recorded, see
+     * {@link RegisteredListener#getTimings()}.
+     */
+    private static volatile boolean timingsEnabled;
+
+    /**
+     * The number of threads used to call listeners of events posted with
+     * {@link #postAsync(Event)}.
+     */
+    private static final int ASYNC_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * The number of asynchronous events that may wait for a free thread. If
+     * the queue is full, further events are rejected.
+     */
+    private static final int ASYNC_QUEUE_SIZE = 1024;
+
     private final Object lock = new Object();
 
     private final PluginManager pluginManager;
-    private final AnnotatedEventListener.Factory handlerFactory = new ClassEventListenerFactory("org.spongepowered.common.event.listener");
+    private final AnnotatedEventListener.Factory handlerFactory;
     private final Multimap<Class<?>, RegisteredListener<?>> handlersByEvent = HashMultimap.create();
 
+    private final ThreadPoolExecutor asyncExecutor = new ThreadPoolExecutor(ASYNC_THREADS, ASYNC_THREADS, 60, TimeUnit.SECONDS,
+            new ArrayBlockingQueue<>(ASYNC_QUEUE_SIZE),
+            new ThreadFactoryBuilder().setNameFormat("Sponge Async Event Thread #%d").setDaemon(true).build(),
+            new ThreadPoolExecutor.AbortPolicy());
+
     /**
-     * A cache of all the handlers for an event type for quick event posting.
-     * <p>The cache is currently entirely invalidated if handlers are added or removed.</p>
+     * The baked handlers of each event type for quick event posting.
+     *
+     * <p>Each event class has its own slot, which is reached through the
+     * class itself instead of a shared map. Posting an event therefore only
+     * needs a volatile read. Slots are only written under {@link #lock}. If
+     * handlers are added or removed, only the slots of event types that are
+     * related to the changed handler's event class are cleared.</p>
      */
-    private final LoadingCache<Class<? extends Event>, RegisteredListener.Cache> handlersCache =
-            CacheBuilder.newBuilder().build(new CacheLoader<Class<? extends Event>, RegisteredListener.Cache>() {
-                @Override
-                public RegisteredListener.Cache load(Class<? extends Event> eventClass) throws Exception {
-                    return bakeHandlers(eventClass);
-                }
-            });
+    private final ClassValue<EventTypeSlot> slots = new ClassValue<EventTypeSlot>() {
+
+        @Override
+        protected EventTypeSlot computeValue(Class<?> type) {
+            return new EventTypeSlot();
+        }
+    };
+
+    /**
+     * The event types with baked handlers, so their slots can be cleared.
+     * Only accessed under {@link #lock}.
+     */
+    private final Set<Class<?>> bakedHandlers = new HashSet<>();
+
+    /**
+     * The event types with a baked result of {@link #hasListeners(Class)}.
+     * Only accessed under {@link #lock}.
+     */
+    private final Set<Class<?>> bakedHasListeners = new HashSet<>();
 
     @Inject
     public SpongeEventManager(PluginManager pluginManager) {
+        this(pluginManager, Sponge.getGlobalConfig().getConfig().getEvents().useListenerDispatchers()
+                ? new DispatcherEventListenerFactory("org.spongepowered.common.event.listener")
+                : new ClassEventListenerFactory("org.spongepowered.common.event.listener"));
+    }
+
+    SpongeEventManager(PluginManager pluginManager, AnnotatedEventListener.Factory handlerFactory) {
         this.pluginManager = checkNotNull(pluginManager, "pluginManager");
+        this.handlerFactory = checkNotNull(handlerFactory, "handlerFactory");
+        this.asyncExecutor.allowCoreThreadTimeOut(true);
     }
 
     private RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
@@ -87,16 +144,83 @@ private RegisteredListener.Cache bakeHandlers(Class<?> rootEvent) {
         @SuppressWarnings({"unchecked", "rawtypes"})
         Set<Class<?>> types = (Set) TypeToken.of(rootEvent).getTypes().rawTypes();
 
+        EventTypeSlot slot = this.slots.get(rootEvent);
         synchronized (this.lock) {
+            // Another thread may have baked this type while we were resolving the hierarchy
+            RegisteredListener.Cache cache = slot.handlers;
+            if (cache != null) {
+                return cache;
+            }
+
             for (Class<?> type : types) {
                 if (Event.class.isAssignableFrom(type)) {
                     handlers.addAll(this.handlersByEvent.get(type));
                 }
             }
+
+            Collections.sort(handlers);
+            cache = new RegisteredListener.Cache(handlers);
+
+            slot.handlers = cache;
+            this.bakedHandlers.add(rootEvent);
+            return cache;
+        }
+    }
+
+    /**
+     * Drops the baked handlers of all event types that are affected by a
+     * change to the handlers of the given event classes. Must be called while
+     * holding {@link #lock}.
+     *
+     * @param changedEvents The event classes of the added or removed handlers
+     */
+    private void invalidateHandlers(Collection<Class<?>> changedEvents) {
+        Iterator<Class<?>> itr = this.bakedHandlers.iterator();
+        while (itr.hasNext()) {
+            Class<?> eventClass = itr.next();
+            for (Class<?> changedEvent : changedEvents) {
+                if (changedEvent.isAssignableFrom(eventClass)) {
+                    this.slots.get(eventClass).handlers = null;
+                    itr.remove();
+                    break;
+                }
+            }
+        }
+
+        itr = this.bakedHasListeners.iterator();
+        while (itr.hasNext()) {
+            Class<?> eventClass = itr.next();
+            for (Class<?> changedEvent : changedEvents) {
+                if (changedEvent.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(changedEvent)) {
+                    this.slots.get(eventClass).hasListeners = null;
+                    itr.remove();
+                    break;
+                }
+            }
         }
+    }
+
+    private boolean bakeHasListeners(Class<?> eventClass) {
+        EventTypeSlot slot = this.slots.get(eventClass);
+        synchronized (this.lock) {
+            Boolean result = slot.hasListeners;
+            if (result != null) {
+                return result;
+            }
+
+            // Listeners for sub types are included as well, the posted event may implement them
+            result = false;
+            for (Class<?> type : this.handlersByEvent.keySet()) {
+                if (type.isAssignableFrom(eventClass) || eventClass.isAssignableFrom(type)) {
+                    result = true;
+                    break;
+                }
+            }
 
-        Collections.sort(handlers);
-        return new RegisteredListener.Cache(handlers);
+            slot.hasListeners = result;
+            this.bakedHasListeners.add(eventClass);
+            return result;
+        }
     }
 
     private static boolean isValidHandler(Method method) {
@@ -117,21 +241,25 @@ private void register(RegisteredListener<?> handler) {
 
     private void register(List<RegisteredListener<?>> handlers) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = new HashSet<>();
 
             for (RegisteredListener<?> handler : handlers) {
                 if (this.handlersByEvent.put(handler.getEventClass(), handler)) {
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                invalidateHandlers(changed);
             }
         }
     }
 
     public void registerListener(PluginContainer plugin, Object listenerObject) {
+        registerListener(plugin, listenerObject, null);
+    }
+
+    private void registerListener(PluginContainer plugin, Object listenerObject, @Nullable WorldScope scope) {
         checkNotNull(plugin, "plugin");
         checkNotNull(listenerObject, "listener");
 
@@ -152,7 +280,7 @@ public void registerListener(PluginContainer plugin, Object listenerObject) {
                         continue;
                     }
 
-                    handlers.add(createRegistration(plugin, eventClass, listener, handler));
+                    handlers.add(createRegistration(plugin, eventClass, listener, method.isAnnotationPresent(AsyncSafe.class), scope, handler));
                 } else {
                     Sponge.getLogger().warn("The method {} on {} has @{} but has the wrong signature", method, handle.getName(),
                             Listener.class.getName());
@@ -164,13 +292,14 @@ public void registerListener(PluginContainer plugin, Object listenerObject) {
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Listener listener,
-            EventListener<? super T> handler) {
-        return createRegistration(plugin, eventClass, listener.order(), listener.ignoreCancelled(), listener.beforeModifications(), handler);
+            boolean asyncSafe, @Nullable WorldScope scope, EventListener<? super T> handler) {
+        return createRegistration(plugin, eventClass, listener.order(), listener.ignoreCancelled(), listener.beforeModifications(), asyncSafe,
+                scope, handler);
     }
 
     private static <T extends Event> RegisteredListener<T> createRegistration(PluginContainer plugin, Class<T> eventClass, Order order,
-            boolean ignoreCancelled, boolean beforeModifications, EventListener<? super T> handler) {
-        return new RegisteredListener<>(plugin, eventClass, order, handler, ignoreCancelled, beforeModifications);
+            boolean ignoreCancelled, boolean beforeModifications, boolean asyncSafe, @Nullable WorldScope scope, EventListener<? super T> handler) {
+        return new RegisteredListener<>(plugin, eventClass, order, handler, ignoreCancelled, beforeModifications, asyncSafe, scope);
     }
 
     private PluginContainer getPlugin(Object plugin) {
@@ -191,30 +320,61 @@ public <T extends Event> void registerListener(Object plugin, Class<T> eventClas
 
     @Override
     public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, EventListener<? super T> handler) {
-        register(createRegistration(getPlugin(plugin), eventClass, order, false, false, handler));
+        register(createRegistration(getPlugin(plugin), eventClass, order, false, false, false, null, handler));
     }
 
     @Override
     public <T extends Event> void registerListener(Object plugin, Class<T> eventClass, Order order, boolean beforeModifications,
                                            EventListener<? super T> handler) {
-        register(createRegistration(getPlugin(plugin), eventClass, order, false, beforeModifications, handler));
+        register(createRegistration(getPlugin(plugin), eventClass, order, false, beforeModifications, false, null, handler));
+    }
+
+    /**
+     * Registers the listener methods of an object like
+     * {@link #registerListeners(Object, Object)}, but the listeners only
+     * receive events that happen in a world within the given scope.
+     *
+     * @param plugin The plugin instance
+     * @param scope The world scope
+     * @param listener The listener object
+     */
+    public void registerWorldListeners(Object plugin, WorldScope scope, Object listener) {
+        registerListener(getPlugin(plugin), listener, checkNotNull(scope, "scope"));
+    }
+
+    /**
+     * Registers a listener like
+     * {@link #registerListener(Object, Class, Order, EventListener)}, but the
+     * listener only receives events that happen in a world within the given
+     * scope.
+     *
+     * @param plugin The plugin instance
+     * @param scope The world scope
+     * @param eventClass The event type
+     * @param order The order the listener is called in
+     * @param handler The listener
+     * @param <T> The event type
+     */
+    public <T extends Event> void registerWorldListener(Object plugin, WorldScope scope, Class<T> eventClass, Order order,
+            EventListener<? super T> handler) {
+        register(createRegistration(getPlugin(plugin), eventClass, order, false, false, false, checkNotNull(scope, "scope"), handler));
     }
 
     private void unregister(Predicate<RegisteredListener<?>> unregister) {
         synchronized (this.lock) {
-            boolean changed = false;
+            Set<Class<?>> changed = new HashSet<>();
 
             Iterator<RegisteredListener<?>> itr = this.handlersByEvent.values().iterator();
             while (itr.hasNext()) {
                 RegisteredListener<?> handler = itr.next();
                 if (unregister.test(handler)) {
                     itr.remove();
-                    changed = true;
+                    changed.add(handler.getEventClass());
                 }
             }
 
-            if (changed) {
-                this.handlersCache.invalidateAll();
+            if (!changed.isEmpty()) {
+                invalidateHandlers(changed);
             }
         }
     }
@@ -231,12 +391,107 @@ public void unregisterPluginListeners(Object pluginObj) {
         unregister(handler -> plugin.equals(handler.getPlugin()));
     }
 
+    /**
+     * Gets the handlers which may receive the given event. If listeners of
+     * the event type are scoped to worlds, only the listeners for the world
+     * of the event are included.
+     *
+     * @param event The event
+     * @return The handler cache for the event
+     */
     protected RegisteredListener.Cache getHandlerCache(Event event) {
-        return this.handlersCache.getUnchecked(checkNotNull(event, "event").getClass());
+        Class<?> eventClass = checkNotNull(event, "event").getClass();
+        RegisteredListener.Cache cache = this.slots.get(eventClass).handlers;
+        if (cache == null) {
+            cache = bakeHandlers(eventClass);
+        }
+        if (cache.hasScopedListeners()) {
+            return cache.forWorld(WorldScope.getTargetWorldId(event));
+        }
+        return cache;
     }
 
-    @SuppressWarnings("unchecked")
+    /**
+     * Drops everything that was cached for a world, once it was unloaded.
+     *
+     * @param worldId The unique id of the world
+     */
+    public void onWorldUnload(UUID worldId) {
+        checkNotNull(worldId, "worldId");
+        WorldScope.invalidate(worldId);
+        synchronized (this.lock) {
+            for (Class<?> eventClass : this.bakedHandlers) {
+                RegisteredListener.Cache cache = this.slots.get(eventClass).handlers;
+                if (cache != null) {
+                    cache.invalidateWorld(worldId);
+                }
+            }
+        }
+    }
+
+    /**
+     * Gets whether any listener is registered that may receive an event of
+     * the given type. This can be used to avoid constructing events that are
+     * fired very frequently if nobody is listening to them.
+     *
+     * <p>The result is cached until listeners for a related event type are
+     * registered or unregistered, so this is cheap enough to be called from
+     * hot code paths.</p>
+     *
+     * @param eventClass The event type
+     * @return True if there may be listeners for the event type
+     */
+    public boolean hasListeners(Class<? extends Event> eventClass) {
+        Boolean result = this.slots.get(checkNotNull(eventClass, "eventClass")).hasListeners;
+        if (result == null) {
+            return bakeHasListeners(eventClass);
+        }
+        return result;
+    }
+
+    public static boolean isTimingsEnabled() {
+        return timingsEnabled;
+    }
+
+    public static void setTimingsEnabled(boolean enabled) {
+        timingsEnabled = enabled;
+    }
+
+    /**
+     * Gets a snapshot of all currently registered listeners.
+     *
+     * @return The registered listeners
+     */
+    public List<RegisteredListener<?>> getRegisteredListeners() {
+        synchronized (this.lock) {
+            return ImmutableList.copyOf(this.handlersByEvent.values());
+        }
+    }
+
+    /**
+     * Calls the given listeners with the event. Events fired while entities
+     * are tracked in parallel are queued and posted on the main thread once
+     * all worlds are done, see {@link ParallelWorldTicker}.
+     *
+     * @param event The event
+     * @param handlers The listeners to call
+     * @return True if the event was cancelled, always false if it was queued
+     */
     protected static boolean post(Event event, List<RegisteredListener<?>> handlers) {
+        if (ParallelWorldTicker.isWorldTickThread()) {
+            // Listeners only run on the main thread, the event is posted once the parallel phase is over
+            ParallelWorldTicker.defer(() -> callListeners(event, handlers));
+            return false;
+        }
+        return callListeners(event, handlers);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static boolean callListeners(Event event, List<RegisteredListener<?>> handlers) {
+        if (timingsEnabled) {
+            return postTimed(event, handlers);
+        }
+
         for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
             try {
                 handler.handle(event);
@@ -248,6 +503,21 @@ protected static boolean post(Event event, List<RegisteredListener<?>> handlers)
         return event instanceof Cancellable && ((Cancellable) event).isCancelled();
     }
 
+    @SuppressWarnings("unchecked")
+    private static boolean postTimed(Event event, List<RegisteredListener<?>> handlers) {
+        for (@SuppressWarnings("rawtypes") RegisteredListener handler : handlers) {
+            long start = System.nanoTime();
+            try {
+                handler.handle(event);
+            } catch (Throwable e) {
+                Sponge.getLogger().error("Could not pass {} to {}", event.getClass().getSimpleName(), handler.getPlugin(), e);
+            }
+            handler.getTimings().record(System.nanoTime() - start);
+        }
+
+        return event instanceof Cancellable && ((Cancellable) event).isCancelled();
+    }
+
     @Override
     public boolean post(Event event) {
         return post(event, getHandlerCache(event).getListeners());
@@ -257,4 +527,45 @@ public boolean post(Event event, Order order) {
         return post(event, getHandlerCache(event).getListenersByOrder(order));
     }
 
+    /**
+     * Posts an event that was fired from a thread other than the main thread.
+     *
+     * <p>If all listeners for the event are {@link AsyncSafe}, they are called
+     * in order on the bounded asynchronous event executor and the returned
+     * future completes once all of them ran. Callers should continue from the
+     * future instead of waiting for it. If the executor is saturated, the
+     * future completes exceptionally with a
+     * {@link RejectedExecutionException} and no listener is called, callers
+     * should then refuse what the event was fired for. Otherwise the
+     * listeners are called on the current thread, like
+     * {@link #post(Event)}.</p>
+     *
+     * @param event The event
+     * @return A future for whether the event was cancelled
+     */
+    public CompletableFuture<Boolean> postAsync(Event event) {
+        RegisteredListener.Cache cache = getHandlerCache(event);
+        List<RegisteredListener<?>> listeners = cache.getListeners();
+        if (listeners.isEmpty() || !cache.isAsyncSafe()) {
+            return CompletableFuture.completedFuture(post(event, listeners));
+        }
+        try {
+            return CompletableFuture.supplyAsync(() -> post(event, listeners), this.asyncExecutor);
+        } catch (RejectedExecutionException e) {
+            CompletableFuture<Boolean> rejected = new CompletableFuture<>();
+            rejected.completeExceptionally(e);
+            return rejected;
+        }
+    }
+
+    /**
+     * The baked state of a single event type.
+     */
+    private static final class EventTypeSlot {
+
+        @Nullable volatile RegisteredListener.Cache handlers;
+        @Nullable volatile Boolean hasListeners;
+
+    }
+
 }
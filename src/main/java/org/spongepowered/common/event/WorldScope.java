@@ -0,0 +1,149 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.event;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.base.Objects;
+import org.spongepowered.api.event.Event;
+import org.spongepowered.api.event.block.TargetBlockEvent;
+import org.spongepowered.api.event.entity.TargetEntityEvent;
+import org.spongepowered.api.event.world.TargetWorldEvent;
+import org.spongepowered.api.world.DimensionType;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.Sponge;
+
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Restricts a {@link RegisteredListener} to the events that happen in a
+ * single world or in the worlds of a single dimension type.
+ */
+public final class WorldScope {
+
+    // The dimension type of a world never changes, only worlds that were found are cached
+    private static final ConcurrentMap<UUID, DimensionType> dimensionTypes = new ConcurrentHashMap<>();
+
+    @Nullable private final UUID worldId;
+    @Nullable private final DimensionType dimensionType;
+
+    private WorldScope(@Nullable UUID worldId, @Nullable DimensionType dimensionType) {
+        this.worldId = worldId;
+        this.dimensionType = dimensionType;
+    }
+
+    public static WorldScope of(UUID worldId) {
+        return new WorldScope(checkNotNull(worldId, "worldId"), null);
+    }
+
+    public static WorldScope of(DimensionType dimensionType) {
+        return new WorldScope(null, checkNotNull(dimensionType, "dimensionType"));
+    }
+
+    /**
+     * Gets whether events that happen in the world with the given id are
+     * within this scope.
+     *
+     * @param worldId The world id, or null if the event has no target world
+     * @return True if the world is within this scope
+     */
+    public boolean matches(@Nullable UUID worldId) {
+        if (worldId == null) {
+            return false;
+        }
+        if (this.worldId != null) {
+            return this.worldId.equals(worldId);
+        }
+        DimensionType dimensionType = dimensionTypes.get(worldId);
+        if (dimensionType == null) {
+            Optional<World> world = Sponge.getGame().getServer().getWorld(worldId);
+            if (!world.isPresent()) {
+                return false;
+            }
+            dimensionType = world.get().getDimension().getType();
+            dimensionTypes.put(worldId, dimensionType);
+        }
+        return dimensionType.equals(this.dimensionType);
+    }
+
+    /**
+     * Forgets the cached dimension type of a world that was unloaded.
+     *
+     * @param worldId The world id
+     */
+    static void invalidate(UUID worldId) {
+        dimensionTypes.remove(worldId);
+    }
+
+    /**
+     * Gets the id of the world an event happened in, if it targets a world,
+     * an entity or a block.
+     *
+     * @param event The event
+     * @return The world id, or null if the event is not bound to a world
+     */
+    @Nullable
+    public static UUID getTargetWorldId(Event event) {
+        if (event instanceof TargetWorldEvent) {
+            return ((TargetWorldEvent) event).getTargetWorld().getUniqueId();
+        } else if (event instanceof TargetEntityEvent) {
+            return ((TargetEntityEvent) event).getTargetEntity().getWorld().getUniqueId();
+        } else if (event instanceof TargetBlockEvent) {
+            return ((TargetBlockEvent) event).getTargetBlock().getWorldUniqueId();
+        }
+        return null;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (o == null || getClass() != o.getClass()) {
+            return false;
+        }
+        WorldScope that = (WorldScope) o;
+        return Objects.equal(this.worldId, that.worldId) && Objects.equal(this.dimensionType, that.dimensionType);
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hashCode(this.worldId, this.dimensionType);
+    }
+
+    @Override
+    public String toString() {
+        return Objects.toStringHelper(this)
+                .add("worldId", this.worldId)
+                .add("dimensionType", this.dimensionType)
+                .toString();
+    }
+
+}
@@ -26,6 +26,13 @@
 
 public interface IMixinNetHandlerLoginServer {
 
+    /**
+     * Posts the auth event for the profile that is logging in. Must be
+     * called before the login state changes to ready to accept, the player
+     * is only accepted in {@code update()} once the listeners are done.
+     *
+     * @return True if the login was rejected right away
+     */
     boolean fireAuthEvent();
 
 }
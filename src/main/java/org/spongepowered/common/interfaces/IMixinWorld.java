@@ -31,12 +31,15 @@
 import org.spongepowered.api.block.tileentity.TileEntity;
 import org.spongepowered.api.entity.Entity;
 import org.spongepowered.api.event.cause.Cause;
+import org.spongepowered.api.world.Chunk;
 import org.spongepowered.api.world.gen.GeneratorPopulator;
 import org.spongepowered.api.world.gen.Populator;
 import org.spongepowered.common.configuration.SpongeConfig;
+import org.spongepowered.common.world.ChunkTickTimings;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
 
 public interface IMixinWorld {
 
@@ -64,6 +67,26 @@ public interface IMixinWorld {
 
     Optional<TileEntity> getCurrentTickTileEntity();
 
+    /**
+     * Loads a chunk without blocking the main thread on disk reads. The
+     * future completes on the main thread.
+     *
+     * @param x The chunk x coordinate
+     * @param y The chunk y coordinate
+     * @param z The chunk z coordinate
+     * @param shouldGenerate Whether to generate the chunk if it was never saved
+     * @return The chunk, if it is loaded
+     */
+    CompletableFuture<Optional<Chunk>> loadChunkAsync(int x, int y, int z, boolean shouldGenerate);
+
+    /**
+     * Gets the per-chunk tick timings of this world, which are recorded
+     * while {@link ChunkTickTimings#isEnabled()}.
+     *
+     * @return The chunk tick timings
+     */
+    ChunkTickTimings getChunkTickTimings();
+
     void updateWorldGenerator();
 
     void handlePostTickCaptures(Cause cause);
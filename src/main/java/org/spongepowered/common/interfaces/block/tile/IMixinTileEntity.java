@@ -65,4 +65,33 @@ public interface IMixinTileEntity {
      * @param dataView The data view to set all data api related data
      */
     void sendDataToContainer(DataView dataView);
+
+    /**
+     * Gets the number of ticks between updates of this tile entity, as
+     * configured for its type in the world it is in.
+     *
+     * @return The tick interval, at least 1
+     */
+    int getTickInterval();
+
+    /**
+     * Requests that this tile entity is updated on the next tick, even if
+     * its tick interval would skip it.
+     */
+    void requestImmediateTick();
+
+    /**
+     * Gets and clears whether an immediate tick was requested.
+     *
+     * @return True if an immediate tick was requested
+     */
+    boolean consumeImmediateTick();
+
+    /**
+     * Sets whether this tile entity is currently being updated, during which
+     * marking it dirty does not request an immediate tick.
+     *
+     * @param ticking Whether the tile entity is being updated
+     */
+    void setTicking(boolean ticking);
 }
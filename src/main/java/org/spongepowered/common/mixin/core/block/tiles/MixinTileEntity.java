@@ -52,6 +52,7 @@
 import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
 import org.spongepowered.common.service.persistence.NbtTranslator;
+import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
 
 import java.util.Collection;
@@ -62,6 +63,10 @@
 public abstract class MixinTileEntity implements TileEntity, IMixinTileEntity {
 
     private final TileEntityType tileType = Sponge.getSpongeRegistry().tileClassToTypeMappings.get(this.getClass());
+    private int tickInterval;
+    private int tickIntervalRevision;
+    private boolean immediateTickRequested;
+    private boolean ticking;
 
     @Shadow protected boolean tileEntityInvalid;
     @Shadow protected net.minecraft.world.World worldObj;
@@ -132,6 +137,52 @@ public final TileEntityType getType() {
         return this.tileType;
     }
 
+    @Inject(method = "markDirty()V", at = @At("HEAD"))
+    public void onMarkDirty(CallbackInfo ci) {
+        if (!this.ticking) {
+            this.immediateTickRequested = true;
+        }
+    }
+
+    @Inject(method = "setWorldObj(Lnet/minecraft/world/World;)V", at = @At("RETURN"))
+    public void onSetWorldObj(net.minecraft.world.World worldIn, CallbackInfo ci) {
+        // Resolved again on the next update, against the new world's configuration
+        this.tickInterval = 0;
+    }
+
+    @Override
+    public int getTickInterval() {
+        if (this.worldObj == null || this.worldObj.isRemote || this.tileType == null) {
+            return 1;
+        }
+        // Resolved again after a config was reloaded or changed
+        int revision = SpongeHooks.getConfigRevision(this.worldObj);
+        if (this.tickInterval == 0 || this.tickIntervalRevision != revision) {
+            this.tickInterval = SpongeHooks.getActiveConfig(this.worldObj).getConfig().getTileEntityTick().getTickInterval(this.tileType.getId());
+            this.tickIntervalRevision = revision;
+        }
+        return this.tickInterval;
+    }
+
+    @Override
+    public void requestImmediateTick() {
+        this.immediateTickRequested = true;
+    }
+
+    @Override
+    public boolean consumeImmediateTick() {
+        if (this.immediateTickRequested) {
+            this.immediateTickRequested = false;
+            return true;
+        }
+        return false;
+    }
+
+    @Override
+    public void setTicking(boolean ticking) {
+        this.ticking = ticking;
+    }
+
     /**
      * Hooks into vanilla's writeToNBT to call {@link #writeToNbt}.
      * <p>
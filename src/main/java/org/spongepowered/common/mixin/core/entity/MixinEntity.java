@@ -63,6 +63,7 @@
 import org.spongepowered.common.data.util.DataQueries;
 import org.spongepowered.common.data.util.DataUtil;
 import org.spongepowered.common.data.util.NbtDataUtil;
+import org.spongepowered.common.entity.EntityActivationRange;
 import org.spongepowered.common.entity.SpongeEntitySnapshotBuilder;
 import org.spongepowered.common.interfaces.IMixinEntityPlayerMP;
 import org.spongepowered.common.interfaces.data.IMixinCustomDataHolder;
@@ -70,6 +71,7 @@
 import org.spongepowered.common.service.persistence.NbtTranslator;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.ArrayDeque;
 import java.util.Collection;
@@ -92,6 +94,9 @@ public abstract class MixinEntity implements Entity, IMixinEntity {
     private float origWidth;
     private float origHeight;
     @Nullable private Double modifiedEyeHeight = null;
+    private byte activationType;
+    private long activatedTick = Integer.MIN_VALUE;
+    private boolean defaultActivationState;
 
     @Shadow private UUID entityUniqueID;
     @Shadow public net.minecraft.world.World worldObj;
@@ -139,6 +144,13 @@ public abstract class MixinEntity implements Entity, IMixinEntity {
 
     // @formatter:on
 
+    @Inject(method = "<init>(Lnet/minecraft/world/World;)V", at = @At("RETURN"))
+    public void onConstructed(net.minecraft.world.World worldIn, CallbackInfo ci) {
+        net.minecraft.entity.Entity entity = (net.minecraft.entity.Entity) (Object) this;
+        this.activationType = EntityActivationRange.initializeEntityActivationType(entity);
+        this.defaultActivationState = EntityActivationRange.initializeEntityActivationState(entity, this.activationType);
+    }
+
     @Inject(method = "setSize", at = @At("RETURN"))
     public void onSetSize(float width, float height, CallbackInfo ci) {
         if (this.origWidth == 0 || this.origHeight == 0) {
@@ -147,6 +159,13 @@ public void onSetSize(float width, float height, CallbackInfo ci) {
         }
     }
 
+    @Inject(method = "travelToDimension(I)V", at = @At("HEAD"), cancellable = true)
+    public void onTravelToDimension(int dimensionId, CallbackInfo ci) {
+        if (ParallelWorldTicker.deferTravelToDimension((net.minecraft.entity.Entity) (Object) this, dimensionId)) {
+            ci.cancel();
+        }
+    }
+
     @Inject(method = "moveEntity(DDD)V", at = @At("HEAD"), cancellable = true)
     public void onMoveEntity(double x, double y, double z, CallbackInfo ci) {
         if (!this.worldObj.isRemote && !SpongeHooks.checkEntitySpeed(((net.minecraft.entity.Entity) (Object) this), x, y, z)) {
@@ -222,6 +241,9 @@ public boolean setLocation(Location<World> location, boolean forced) {
         if (isRemoved()) {
             return false;
         }
+        if (ParallelWorldTicker.deferSetLocation(this, location, forced)) {
+            return true;
+        }
 
         Entity spongeEntity = this;
         net.minecraft.entity.Entity thisEntity = (net.minecraft.entity.Entity) spongeEntity;
@@ -466,6 +488,30 @@ public void setTeleportVehicle(net.minecraft.entity.Entity vehicle) {
         this.teleportVehicle = vehicle;
     }
 
+    @Override
+    public byte getActivationType() {
+        return this.activationType;
+    }
+
+    @Override
+    public long getActivatedTick() {
+        return this.activatedTick;
+    }
+
+    @Override
+    public boolean getDefaultActivationState() {
+        return this.defaultActivationState;
+    }
+
+    @Override
+    public void setActivatedTick(long tick) {
+        this.activatedTick = tick;
+    }
+
+    @Override
+    public void inactiveTick() {
+    }
+
     @Override
     public EntityType getType() {
         return this.entityType;
@@ -27,15 +27,19 @@
 
 import net.minecraft.entity.Entity;
 import net.minecraft.entity.EntityTracker;
+import net.minecraft.world.WorldServer;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.entity.living.human.EntityHuman;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
 
 @Mixin(EntityTracker.class)
-public abstract class MixinEntityTracker {
+public abstract class MixinEntityTracker implements IMixinEntityTracker {
+
+    @Shadow private WorldServer theWorld;
 
     @Shadow
     public abstract void trackEntity(Entity entityIn, int trackingRange, int updateFrequency);
@@ -47,4 +51,9 @@ public void onTrackEntity(Entity entityIn, CallbackInfo ci) {
             ci.cancel();
         }
     }
+
+    @Override
+    public WorldServer getWorld() {
+        return this.theWorld;
+    }
 }
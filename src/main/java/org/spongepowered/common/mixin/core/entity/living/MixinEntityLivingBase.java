@@ -86,6 +86,7 @@ public abstract class MixinEntityLivingBase extends MixinEntity implements Livin
     @Shadow public EntityLivingBase entityLivingToAttack;
     @Shadow protected float lastDamage;
     @Shadow protected EntityPlayer attackingPlayer;
+    @Shadow protected int entityAge;
     @Shadow public abstract void setHealth(float health);
     @Shadow public abstract void addPotionEffect(net.minecraft.potion.PotionEffect potionEffect);
     @Shadow public abstract void removePotionEffect(int id);
@@ -309,6 +310,13 @@ public void onSetRevengeTarget(EntityLivingBase targetEntity, CallbackInfo ci) {
         }
     }
 
+    @Override
+    public void inactiveTick() {
+        super.inactiveTick();
+        // Keep counting towards despawning while far away from players
+        this.entityAge++;
+    }
+
     @Override
     public EntitySnapshot getLastKilledTarget() {
         return this.lastKilledTarget;
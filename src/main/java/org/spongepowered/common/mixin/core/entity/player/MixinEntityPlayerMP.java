@@ -83,6 +83,7 @@
 import org.spongepowered.common.scoreboard.SpongeScoreboard;
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.text.chat.SpongeChatType;
+import org.spongepowered.common.world.ParallelWorldTicker;
 
 import java.util.Collection;
 import java.util.List;
@@ -111,6 +112,13 @@ public abstract class MixinEntityPlayerMP extends MixinEntityPlayer implements P
 
     private net.minecraft.scoreboard.Scoreboard mcScoreboard = this.worldObj.getScoreboard();
 
+    @Inject(method = "travelToDimension(I)V", at = @At("HEAD"), cancellable = true)
+    public void onPlayerTravelToDimension(int dimensionId, CallbackInfo ci) {
+        if (ParallelWorldTicker.deferTravelToDimension((EntityPlayerMP) (Object) this, dimensionId)) {
+            ci.cancel();
+        }
+    }
+
     @Inject(method = "func_152339_d", at = @At(value = "INVOKE",
             target = "Lnet/minecraft/network/NetHandlerPlayServer;sendPacket(Lnet/minecraft/network/Packet;)V"))
     private void onRemoveEntity(Entity entityIn, CallbackInfo ci) {
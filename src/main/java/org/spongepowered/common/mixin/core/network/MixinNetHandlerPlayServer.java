@@ -107,6 +107,12 @@ public abstract class MixinNetHandlerPlayServer implements PlayerConnection {
     private boolean justTeleported = false;
     private Location<World> lastMoveLocation = null;
 
+    // The movement since the last tick, if player movement events are coalesced
+    private Location<World> pendingMoveFrom;
+    private Vector3d pendingMoveFromRotation;
+    private Location<World> pendingMoveTo;
+    private Vector3d pendingMoveToRotation;
+
     private final Map<String, ResourcePack> sentResourcePacks = new HashMap<String, ResourcePack>();
 
     private Long lastPacket;
@@ -304,6 +310,28 @@ public void proccesPlayerMoved(C03PacketPlayer packetIn, CallbackInfo ci){
             // These magic numbers are sad but help prevent excessive lag from this event.
             // eventually it would be nice to not have them
             if (deltaSquared > ((1f / 16) * (1f / 16)) || deltaAngleSquared > (.15f * .15f)) {
+                if (!Sponge.getEventManager().hasListeners(DisplaceEntityEvent.Move.TargetPlayer.class)) {
+                    if (!from.equals(player.getLocation()) && this.justTeleported) {
+                        this.lastMoveLocation = player.getLocation();
+                        this.justTeleported = false;
+                        ci.cancel();
+                    } else {
+                        this.lastMoveLocation = to;
+                    }
+                    return;
+                }
+
+                if (Sponge.getGlobalConfig().getConfig().getEvents().coalescePlayerMovement()) {
+                    // The event is fired once per tick for the whole movement, see onUpdate
+                    if (this.pendingMoveTo == null) {
+                        this.pendingMoveFrom = from;
+                        this.pendingMoveFromRotation = fromrot;
+                    }
+                    this.pendingMoveTo = to;
+                    this.pendingMoveToRotation = torot;
+                    return;
+                }
+
                 Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(fromrot);
                 Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(torot);
                 DisplaceEntityEvent.Move.TargetPlayer event =
@@ -329,6 +357,57 @@ public void proccesPlayerMoved(C03PacketPlayer packetIn, CallbackInfo ci){
         }
     }
 
+    @Inject(method = "update", at = @At("RETURN"))
+    public void onUpdate(CallbackInfo ci) {
+        if (this.pendingMoveTo != null) {
+            firePendingMoveEvent();
+        }
+    }
+
+    /**
+     * Fires a single move event for all movement packets which were received
+     * since the last tick. If the event is cancelled, the player is moved
+     * back to the last accepted location.
+     */
+    private void firePendingMoveEvent() {
+        Player player = (Player) this.playerEntity;
+        Location<World> from = this.pendingMoveFrom;
+        Location<World> to = this.pendingMoveTo;
+        Transform<World> fromTransform = player.getTransform().setLocation(from).setRotation(this.pendingMoveFromRotation);
+        Transform<World> toTransform = player.getTransform().setLocation(to).setRotation(this.pendingMoveToRotation);
+        this.pendingMoveFrom = null;
+        this.pendingMoveFromRotation = null;
+        this.pendingMoveTo = null;
+        this.pendingMoveToRotation = null;
+
+        if (this.playerEntity.isDead) {
+            return;
+        }
+        if (this.justTeleported) {
+            // The player was teleported after moving, so the movement is outdated
+            this.lastMoveLocation = player.getLocation();
+            this.justTeleported = false;
+            return;
+        }
+
+        DisplaceEntityEvent.Move.TargetPlayer event =
+                SpongeEventFactory.createDisplaceEntityEventMoveTargetPlayer(Sponge.getGame(), fromTransform, toTransform, player);
+        Sponge.getGame().getEventManager().post(event);
+        if (event.isCancelled()) {
+            player.setTransform(fromTransform);
+            this.lastMoveLocation = from;
+        } else if (!event.getToTransform().equals(toTransform)) {
+            player.setTransform(event.getToTransform());
+            this.lastMoveLocation = event.getToTransform().getLocation();
+        } else if (!to.equals(player.getLocation()) && this.justTeleported) {
+            this.lastMoveLocation = player.getLocation();
+            // Prevent teleports during the move event from causing odd behaviors
+            this.justTeleported = false;
+        } else {
+            this.lastMoveLocation = event.getToTransform().getLocation();
+        }
+    }
+
     private ChatComponentTranslation tmpQuitMessage;
 
     /**
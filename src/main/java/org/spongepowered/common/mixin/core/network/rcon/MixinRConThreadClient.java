@@ -33,6 +33,7 @@
 import org.spongepowered.api.event.network.rcon.RconConnectionEvent;
 import org.spongepowered.api.network.RemoteConnection;
 import org.spongepowered.api.util.command.source.RconSource;
+import org.spongepowered.asm.lib.Opcodes;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
@@ -41,16 +42,15 @@
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.interfaces.IMixinRConConsoleSource;
+import org.spongepowered.common.interfaces.IMixinRConThreadClient;
+import org.spongepowered.common.network.RconLoginCallback;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
 import java.net.Socket;
 
 @Mixin(RConThreadClient.class)
-public abstract class MixinRConThreadClient extends RConThreadBase implements RemoteConnection {
-
-    @Shadow
-    private boolean loggedIn;
+public abstract class MixinRConThreadClient extends RConThreadBase implements RemoteConnection, IMixinRConThreadClient {
 
     @Shadow
     private Socket clientSocket;
@@ -59,6 +59,11 @@ public abstract class MixinRConThreadClient extends RConThreadBase implements Re
     protected abstract void sendResponse(int id, int packetId, String payload) throws IOException;
 
     private RConConsoleSource source;
+    // Replaces the vanilla loggedIn field, the login is completed by another thread
+    private volatile boolean spongeLoggedIn;
+    // Held for every response written to the client, since the login
+    // response is written by another thread than the other responses
+    private final Object responseLock = new Object();
 
     protected MixinRConThreadClient(IServer p_i45300_1_, String p_i45300_2_) {
         super(p_i45300_1_, p_i45300_2_);
@@ -96,26 +101,66 @@ public String commandExecutionHook(IServer server, String commandStr) {
         }
     }
 
-    @Inject(method = "run", at = @At(value = "INVOKE", target = "net.minecraft.network.rcon.RConThreadClient.sendResponse(IILjava/lang/String;)V",
-            shift = At.Shift.BEFORE))
-    public void rconLoginCallback(CallbackInfo ci) throws IOException {
+    @Redirect(method = "run", at = @At(value = "INVOKE", target = "net.minecraft.network.rcon.RConThreadClient.sendResponse(IILjava/lang/String;)V"))
+    public void rconLoginCallback(RConThreadClient client, int requestId, int packetId, String payload) {
         if (this.source == null) {
             initSource();
         }
+        // The client is not logged in until the listeners are done, the
+        // response is sent by completeLogin
+        this.spongeLoggedIn = false;
         RconConnectionEvent.Login event = SpongeEventFactory.createRconConnectionEventLogin(((RconSource) this.source));
-        Sponge.getGame().getEventManager().post(event);
-        if (event.isCancelled()) {
-            this.loggedIn = false;
-            throw new IOException("Cancelled login");
+        Sponge.getEventManager().postAsync(event).whenComplete(new RconLoginCallback(this, requestId));
+    }
+
+    @Override
+    public void completeLogin(int requestId, boolean cancelled) {
+        synchronized (this.responseLock) {
+            final Socket socket = this.clientSocket;
+            if (socket == null) {
+                return;
+            }
+            try {
+                if (cancelled) {
+                    // The client thread fails to read and closes the connection
+                    socket.close();
+                } else {
+                    this.spongeLoggedIn = true;
+                    this.sendResponse(requestId, 2, "");
+                }
+            } catch (IOException | RuntimeException e) {
+                // The client thread may close the connection at the same time
+                this.spongeLoggedIn = false;
+            }
         }
     }
 
+    @Redirect(method = {"sendMultipacketResponse", "sendLoginFailedResponse"},
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/network/rcon/RConThreadClient;sendResponse(IILjava/lang/String;)V"))
+    public void onSendResponse(RConThreadClient client, int id, int packetId, String payload) throws IOException {
+        synchronized (this.responseLock) {
+            this.sendResponse(id, packetId, payload);
+        }
+    }
+
+    @Redirect(method = "run", at = @At(value = "FIELD", target = "Lnet/minecraft/network/rcon/RConThreadClient;loggedIn:Z",
+            opcode = Opcodes.GETFIELD))
+    public boolean onIsLoggedIn(RConThreadClient client) {
+        return this.spongeLoggedIn;
+    }
+
+    @Redirect(method = "run", at = @At(value = "FIELD", target = "Lnet/minecraft/network/rcon/RConThreadClient;loggedIn:Z",
+            opcode = Opcodes.PUTFIELD))
+    public void onSetLoggedIn(RConThreadClient client, boolean loggedIn) {
+        this.spongeLoggedIn = loggedIn;
+    }
+
     @Inject(method = "closeSocket", at = @At("HEAD"))
     public void rconLogoutCallback(CallbackInfo ci){
         if (this.source == null) {
             initSource();
         }
-        if (this.loggedIn) {
+        if (this.spongeLoggedIn) {
             Sponge.getGame().getEventManager().post(SpongeEventFactory.createRconConnectionEventDisconnect((RconSource) this.source));
         }
     }
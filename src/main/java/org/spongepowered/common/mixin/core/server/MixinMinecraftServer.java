@@ -26,6 +26,7 @@
 
 import com.google.common.collect.ImmutableList;
 import net.minecraft.command.ICommandSender;
+import net.minecraft.entity.EntityTracker;
 import net.minecraft.profiler.Profiler;
 import net.minecraft.server.MinecraftServer;
 import net.minecraft.server.management.ServerConfigurationManager;
@@ -66,9 +67,11 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.common.Sponge;
 import org.spongepowered.common.event.SpongeImplEventFactory;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
 import org.spongepowered.common.interfaces.IMixinCommandSender;
 import org.spongepowered.common.interfaces.IMixinCommandSource;
 import org.spongepowered.common.interfaces.IMixinMinecraftServer;
@@ -79,8 +82,10 @@
 import org.spongepowered.common.resourcepack.SpongeResourcePack;
 import org.spongepowered.common.text.sink.SpongeMessageSinkFactory;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.SpongeDimensionType;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
+import org.spongepowered.common.world.storage.WorldInfoLoader;
 
 import java.io.File;
 import java.net.InetSocketAddress;
@@ -272,60 +277,100 @@ protected void loadAllWorlds(String overworldFolder, String worldName, long seed
         List<Integer> idList = new LinkedList<Integer>(Arrays.asList(DimensionManager.getStaticDimensionIDs()));
         idList.remove(Integer.valueOf(0));
         idList.add(0, 0); // load overworld first
-        for (int dim : idList) {
-            WorldProvider provider = WorldProvider.getProviderForDimension(dim);
-            String worldFolder;
-            String levelName;
-            if (dim == 0) {
-                worldFolder = overworldFolder;
-                levelName = worldName;
-            } else {
-                worldFolder = Sponge.getSpongeRegistry().getWorldFolder(dim);
-                if (worldFolder != null) {
-                    final Optional<World> optWorld = getWorld(worldFolder);
-                    if (optWorld.isPresent()) {
-                        continue; // world is already loaded
+        // The save handlers are opened and the world infos are read in parallel, the
+        // worlds are still registered and constructed in dimension order below
+        List<WorldInfoLoader.PendingWorld> pendingWorlds = new ArrayList<WorldInfoLoader.PendingWorld>();
+        try (WorldInfoLoader loader = new WorldInfoLoader(idList.size())) {
+            for (int dim : idList) {
+                WorldProvider provider = WorldProvider.getProviderForDimension(dim);
+                String worldFolder;
+                String levelName;
+                if (dim == 0) {
+                    worldFolder = overworldFolder;
+                    levelName = worldName;
+                } else {
+                    worldFolder = Sponge.getSpongeRegistry().getWorldFolder(dim);
+                    if (worldFolder != null) {
+                        final Optional<World> optWorld = getWorld(worldFolder);
+                        if (optWorld.isPresent()) {
+                            continue; // world is already loaded
+                        }
+                    } else {
+                        worldFolder = ((IMixinWorldProvider) provider).getSaveFolder();
+                        Sponge.getSpongeRegistry().registerWorldDimensionId(dim, worldFolder);
                     }
+                    levelName = worldFolder;
+                }
+
+                WorldInfoLoader.PendingWorld pendingWorld;
+                if (Sponge.getGame().getPlatform().getType() == Platform.Type.CLIENT) {
+                    // overworld uses the client set world name, its world info is not read
+                    File savesDirectory = dim == 0 ? Sponge.getGame().getSavesDirectory() :
+                            new File(Sponge.getGame().getSavesDirectory() + File.separator + getFolderName());
+                    pendingWorld = loader.submit(dim, provider, savesDirectory, worldFolder, levelName, dim != 0);
                 } else {
-                    worldFolder = ((IMixinWorldProvider) provider).getSaveFolder();
-                    Sponge.getSpongeRegistry().registerWorldDimensionId(dim, worldFolder);
+                    pendingWorld = loader.submit(dim, provider, new File(dim == 0 ? "." : getFolderName()), worldFolder, levelName, true);
                 }
-                levelName = worldFolder;
+                if (dim == 0) {
+                    // The overworld may load the dimension data, finish it before resolving other worlds
+                    pendingWorld.join();
+                }
+                pendingWorlds.add(pendingWorld);
             }
 
-            WorldInfo worldInfo;
-            WorldSettings newWorldSettings ;
-            AnvilSaveHandler worldsavehandler;
+            for (WorldInfoLoader.PendingWorld pendingWorld : pendingWorlds) {
+                loadPendingWorld(pendingWorld, worldName, seed, type);
+            }
+        }
 
-            if (Sponge.getGame().getPlatform().getType() == Platform.Type.CLIENT) {
-                worldsavehandler =
-                        new AnvilSaveHandler(dim == 0 ? Sponge.getGame().getSavesDirectory() :
-                                new File(Sponge.getGame().getSavesDirectory() + File.separator + getFolderName()), worldFolder, true);
-                if (dim == 0) {
-                    // overworld uses the client set world name
-                    if (Sponge.getSpongeRegistry().getWorldProperties(worldFolder).isPresent()) {
-                        worldInfo = (WorldInfo)Sponge.getSpongeRegistry().getWorldProperties(levelName).get();
-                    } else {
-                        worldInfo = (WorldInfo)Sponge.getSpongeRegistry().getWorldProperties(worldName).get(); // client copied world
-                    }
-                } else {
-                    worldInfo = worldsavehandler.loadWorldInfo();
-                }
+        this.serverConfigManager.setPlayerManager(new WorldServer[]{DimensionManager.getWorldFromDimId(0)});
+        this.setDifficultyForAllWorlds(this.getDifficulty());
+        this.initialWorldChunkLoad();
+    }
+
+    private void loadPendingWorld(WorldInfoLoader.PendingWorld pendingWorld, String worldName, long seed, WorldType type) {
+        final int dim = pendingWorld.getDimensionId();
+        final WorldProvider provider = pendingWorld.getProvider();
+        final String worldFolder = pendingWorld.getWorldFolder();
+        final String levelName = pendingWorld.getLevelName();
+        final AnvilSaveHandler worldsavehandler = pendingWorld.getSaveHandler();
+        WorldInfo worldInfo;
+        WorldSettings newWorldSettings;
+
+        if (Sponge.getGame().getPlatform().getType() == Platform.Type.CLIENT && dim == 0) {
+            // overworld uses the client set world name
+            if (Sponge.getSpongeRegistry().getWorldProperties(worldFolder).isPresent()) {
+                worldInfo = (WorldInfo) Sponge.getSpongeRegistry().getWorldProperties(levelName).get();
             } else {
-                worldsavehandler = new AnvilSaveHandler(new File(dim == 0 ? "." : getFolderName()), worldFolder, true);
-                worldInfo = worldsavehandler.loadWorldInfo();
+                worldInfo = (WorldInfo) Sponge.getSpongeRegistry().getWorldProperties(worldName).get(); // client copied world
             }
+        } else {
+            worldInfo = pendingWorld.getWorldInfo();
+        }
 
-            if (worldInfo == null) {
-                newWorldSettings = new WorldSettings(seed, this.getGameType(), this.canStructuresSpawn(), this.isHardcore(), type);
-                newWorldSettings.setWorldName(worldFolder);
+        if (worldInfo == null) {
+            newWorldSettings = new WorldSettings(seed, this.getGameType(), this.canStructuresSpawn(), this.isHardcore(), type);
+            newWorldSettings.setWorldName(worldFolder);
 
-                if (this.enableBonusChest) {
-                    newWorldSettings.enableBonusChest();
-                }
+            if (this.enableBonusChest) {
+                newWorldSettings.enableBonusChest();
+            }
 
-                worldInfo = new WorldInfo(newWorldSettings, worldFolder);
+            worldInfo = new WorldInfo(newWorldSettings, worldFolder);
+            ((IMixinWorldInfo) worldInfo).setUUID(UUID.randomUUID());
+            if (dim == 0 || dim == -1 || dim == 1) {// if vanilla dimension
+                ((WorldProperties) worldInfo).setKeepSpawnLoaded(true);
+                ((WorldProperties) worldInfo).setLoadOnStartup(true);
+                ((WorldProperties) worldInfo).setEnabled(true);
+                if (dim != 0) {
+                    ((WorldProperties) worldInfo).setGeneratorType(GeneratorTypes.DEFAULT);
+                }
+            }
+        } else {
+            if (((WorldProperties) worldInfo).getUniqueId() == null || ((WorldProperties) worldInfo).getUniqueId().equals
+                    (UUID.fromString("00000000-0000-0000-0000-000000000000"))) {
                 ((IMixinWorldInfo) worldInfo).setUUID(UUID.randomUUID());
+
                 if (dim == 0 || dim == -1 || dim == 1) {// if vanilla dimension
                     ((WorldProperties) worldInfo).setKeepSpawnLoaded(true);
                     ((WorldProperties) worldInfo).setLoadOnStartup(true);
@@ -334,69 +379,86 @@ protected void loadAllWorlds(String overworldFolder, String worldName, long seed
                         ((WorldProperties) worldInfo).setGeneratorType(GeneratorTypes.DEFAULT);
                     }
                 }
-            } else {
-                if (((WorldProperties) worldInfo).getUniqueId() == null || ((WorldProperties) worldInfo).getUniqueId().equals
-                        (UUID.fromString("00000000-0000-0000-0000-000000000000"))) {
-                    ((IMixinWorldInfo) worldInfo).setUUID(UUID.randomUUID());
-
-                    if (dim == 0 || dim == -1 || dim == 1) {// if vanilla dimension
-                        ((WorldProperties) worldInfo).setKeepSpawnLoaded(true);
-                        ((WorldProperties) worldInfo).setLoadOnStartup(true);
-                        ((WorldProperties) worldInfo).setEnabled(true);
-                        if (dim != 0) {
-                            ((WorldProperties) worldInfo).setGeneratorType(GeneratorTypes.DEFAULT);
-                        }
-                    }
-                }
-                worldInfo.setWorldName(levelName);
-                newWorldSettings = new WorldSettings(worldInfo);
-            }
-
-            if (dim == 0) {
-                this.setResourcePackFromWorld(this.getFolderName(), worldsavehandler);
             }
+            worldInfo.setWorldName(levelName);
+            newWorldSettings = new WorldSettings(worldInfo);
+        }
 
-            ((IMixinWorldInfo) worldInfo).setDimensionId(dim);
-            ((IMixinWorldInfo) worldInfo).setDimensionType(((Dimension) provider).getType());
-            UUID uuid = ((WorldProperties) worldInfo).getUniqueId();
-            Sponge.getSpongeRegistry().registerWorldUniqueId(uuid, worldFolder);
-            Sponge.getSpongeRegistry().registerWorldProperties((WorldProperties) worldInfo);
-            Sponge.getGame().getEventManager().post(SpongeEventFactory.createConstructWorldEvent(Sponge.getGame(), Cause.of(this), (WorldCreationSettings)(Object) newWorldSettings, (WorldProperties) worldInfo));
-            final WorldServer world = (WorldServer) new WorldServer((MinecraftServer) (Object) this, worldsavehandler, worldInfo, dim,
-                    this.theProfiler).init();
+        if (dim == 0) {
+            this.setResourcePackFromWorld(this.getFolderName(), worldsavehandler);
+        }
 
-            world.initialize(newWorldSettings);
-            world.addWorldAccess(new WorldManager((MinecraftServer) (Object) this, world));
+        ((IMixinWorldInfo) worldInfo).setDimensionId(dim);
+        ((IMixinWorldInfo) worldInfo).setDimensionType(((Dimension) provider).getType());
+        UUID uuid = ((WorldProperties) worldInfo).getUniqueId();
+        Sponge.getSpongeRegistry().registerWorldUniqueId(uuid, worldFolder);
+        Sponge.getSpongeRegistry().registerWorldProperties((WorldProperties) worldInfo);
+        Sponge.getGame().getEventManager().post(SpongeEventFactory.createConstructWorldEvent(Sponge.getGame(), Cause.of(this), (WorldCreationSettings)(Object) newWorldSettings, (WorldProperties) worldInfo));
+        final WorldServer world = (WorldServer) new WorldServer((MinecraftServer) (Object) this, worldsavehandler, worldInfo, dim,
+                this.theProfiler).init();
 
-            if (!this.isSinglePlayer()) {
-                world.getWorldInfo().setGameType(this.getGameType());
-            }
+        world.initialize(newWorldSettings);
+        world.addWorldAccess(new WorldManager((MinecraftServer) (Object) this, world));
 
-            Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createLoadWorldEvent(Sponge.getGame(), (World)
-                    world));
+        if (!this.isSinglePlayer()) {
+            world.getWorldInfo().setGameType(this.getGameType());
         }
 
-        this.serverConfigManager.setPlayerManager(new WorldServer[]{DimensionManager.getWorldFromDimId(0)});
-        this.setDifficultyForAllWorlds(this.getDifficulty());
-        this.initialWorldChunkLoad();
+        Sponge.getGame().getEventManager().post(SpongeImplEventFactory.createLoadWorldEvent(Sponge.getGame(), (World)
+                world));
     }
 
     @Overwrite
     protected void initialWorldChunkLoad() {
+        List<WorldServer> worlds = new ArrayList<WorldServer>();
         for (WorldServer worldserver : DimensionManager.getWorlds()) {
             WorldProperties worldProperties = ((World) worldserver).getProperties();
             if (worldProperties.doesKeepSpawnLoaded()) {
-                prepareSpawnArea(worldserver);
+                worlds.add(worldserver);
             }
         }
 
+        for (int i = 0; i < worlds.size(); i++) {
+            // Read the spawn chunks of the next world while this one is prepared
+            if (i + 1 < worlds.size()) {
+                prefetchSpawnArea(worlds.get(i + 1));
+            }
+            prepareSpawnArea(worlds.get(i));
+        }
+
         this.clearCurrentTask();
     }
 
+    /**
+     * Starts to read the unloaded spawn chunks of a world on the chunk I/O
+     * threads, so that loading them on the main thread only has to construct
+     * or generate them.
+     *
+     * @param world The world
+     */
+    private void prefetchSpawnArea(WorldServer world) {
+        if (!(world.theChunkProviderServer.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return;
+        }
+        IMixinAnvilChunkLoader chunkLoader = (IMixinAnvilChunkLoader) world.theChunkProviderServer.chunkLoader;
+        BlockPos blockpos = world.getSpawnPoint();
+        for (int k = -192; k <= 192; k += 16) {
+            for (int l = -192; l <= 192; l += 16) {
+                int x = blockpos.getX() + k >> 4;
+                int z = blockpos.getZ() + l >> 4;
+                if (!world.theChunkProviderServer.chunkExists(x, z)) {
+                    chunkLoader.prefetchChunkData(x, z);
+                }
+            }
+        }
+    }
+
     protected void prepareSpawnArea(WorldServer world) {
         int i = 0;
         this.setUserMessage("menu.generatingTerrain");
         logger.info("Preparing start region for level " + world.provider.getDimensionId());
+        // Reads that were already started for this world are not repeated
+        prefetchSpawnArea(world);
         BlockPos blockpos = world.getSpawnPoint();
         long j = MinecraftServer.getCurrentTimeMillis();
 
@@ -405,7 +467,7 @@ protected void prepareSpawnArea(WorldServer world) {
                 long i1 = MinecraftServer.getCurrentTimeMillis();
 
                 if (i1 - j > 1000L) {
-                    this.outputPercentRemaining("Preparing spawn area", i * 100 / 625);
+                    this.outputPercentRemaining("Preparing spawn area for " + world.getWorldInfo().getWorldName(), i * 100 / 625);
                     j = i1;
                 }
 
@@ -623,6 +685,19 @@ public Optional<ResourcePack> getDefaultResourcePack() {
         return Optional.ofNullable(this.resourcePack);
     }
 
+    @Redirect(method = "updateTimeLightAndEntities()V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/entity/EntityTracker;updateTrackedEntities()V"))
+    public void onUpdateTrackedEntities(EntityTracker tracker) {
+        if (!ParallelWorldTicker.submit(tracker)) {
+            tracker.updateTrackedEntities();
+        }
+    }
+
+    @Inject(method = "updateTimeLightAndEntities()V", at = @At(value = "INVOKE", target = "Lnet/minecraft/network/NetworkSystem;networkTick()V"))
+    public void onWorldsTicked(CallbackInfo ci) {
+        ParallelWorldTicker.await();
+    }
+
     @Inject(method = "setResourcePack(Ljava/lang/String;Ljava/lang/String;)V", at = @At("HEAD") )
     public void onSetResourcePack(String url, String hash, CallbackInfo ci) {
         if (url.length() == 0) {
@@ -92,6 +92,7 @@
 import org.spongepowered.common.text.SpongeTexts;
 import org.spongepowered.common.util.VecHelper;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.ParallelWorldTicker;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 
 import java.net.SocketAddress;
@@ -306,6 +307,10 @@ public void initializeConnectionToPlayer(NetworkManager netManager, EntityPlayer
     @SuppressWarnings("unchecked")
     @Overwrite
     public EntityPlayerMP recreatePlayerEntity(EntityPlayerMP playerIn, int targetDimension, boolean conqueredEnd) {
+        if (ParallelWorldTicker.deferRecreatePlayerEntity((ServerConfigurationManager) (Object) this, playerIn, targetDimension, conqueredEnd)) {
+            // Respawned once all worlds have ticked
+            return playerIn;
+        }
 
         // ### PHASE 1 ### Get the location to spawn
 
@@ -54,6 +54,9 @@
 
 import java.net.SocketAddress;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+import javax.annotation.Nullable;
 
 @Mixin(NetHandlerLoginServer.class)
 public abstract class MixinNetHandlerLoginServer implements IMixinNetHandlerLoginServer {
@@ -63,6 +66,10 @@ public abstract class MixinNetHandlerLoginServer implements IMixinNetHandlerLogi
     @Shadow private MinecraftServer server;
     @Shadow private com.mojang.authlib.GameProfile loginGameProfile;
 
+    @Nullable private ClientConnectionEvent.Auth authEvent;
+    // Set by the authenticator thread in online mode before it changes the login state, read by update()
+    @Nullable private volatile CompletableFuture<Boolean> authEventResult;
+
     @Shadow
     abstract public String getConnectionInfo();
     @Shadow
@@ -99,13 +106,46 @@ public boolean fireAuthEvent() {
         Text disconnectMessage = Texts.of("You are not allowed to log in to this server.");
         MessageSink sink = MessageSinks.toAll();
         ClientConnectionEvent.Auth event = SpongeEventFactory.createClientConnectionEventAuth(Sponge.getGame(), Cause.of(this.loginGameProfile), disconnectMessage, disconnectMessage, sink, sink, (RemoteConnection) this.networkManager, (GameProfile) this.loginGameProfile);
-        Sponge.getGame().getEventManager().post(event);
+        CompletableFuture<Boolean> result = Sponge.getEventManager().postAsync(event);
+        if (result.isDone() && this.completeAuthEvent(event, result)) {
+            return true;
+        }
+        // The listeners may still run on the async event executor, the
+        // player is only accepted by update() once they are done
+        this.authEvent = event;
+        this.authEventResult = result;
+        return false;
+    }
+
+    private boolean completeAuthEvent(ClientConnectionEvent.Auth event, CompletableFuture<Boolean> result) {
+        if (result.isCompletedExceptionally()) {
+            // The async event executor is saturated, the listeners did not run
+            this.disconnectClient(Optional.of(Texts.of("The server is busy, please try again later.")));
+            return true;
+        }
         if (event.isCancelled()) {
             this.disconnectClient(Optional.ofNullable(event.getMessage()));
         }
         return event.isCancelled();
     }
 
+    @Redirect(method = "update", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/network/NetHandlerLoginServer;tryAcceptPlayer()V"))
+    public void onTryAcceptPlayer(NetHandlerLoginServer handler) {
+        // Every login passes fireAuthEvent before it is ready to accept, so
+        // the player waits until its result is visible and complete. Vanilla
+        // still times out the login meanwhile.
+        CompletableFuture<Boolean> result = this.authEventResult;
+        if (result == null || !result.isDone()) {
+            return;
+        }
+        ClientConnectionEvent.Auth event = this.authEvent;
+        this.authEvent = null;
+        this.authEventResult = null;
+        if (!this.completeAuthEvent(event, result)) {
+            handler.tryAcceptPlayer();
+        }
+    }
+
     @Inject(method = "processLoginStart", at = @At(value = "FIELD", target = "Lnet/minecraft/server/network/NetHandlerLoginServer;"
             + "currentLoginState:Lnet/minecraft/server/network/NetHandlerLoginServer$LoginState;",
             opcode = Opcodes.PUTFIELD, ordinal = 1), cancellable = true)
@@ -0,0 +1,108 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.World;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.AnvilChunkLoader;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
+import org.spongepowered.common.world.storage.ChunkDataPrefetcher;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+
+@NonnullByDefault
+@Mixin(AnvilChunkLoader.class)
+public abstract class MixinAnvilChunkLoader implements IMixinAnvilChunkLoader {
+
+    @Shadow private Set<ChunkCoordIntPair> pendingAnvilChunksCoordinates;
+    @Shadow private Object syncLockObject;
+    @Shadow protected abstract Chunk checkedReadChunkFromNBT(World worldIn, int x, int z, NBTTagCompound compound);
+
+    private ChunkDataPrefetcher prefetcher;
+
+    @Inject(method = "<init>", at = @At("RETURN"))
+    public void onConstructed(File chunkSaveLocation, CallbackInfo ci) {
+        this.prefetcher = new ChunkDataPrefetcher(chunkSaveLocation);
+    }
+
+    @Override
+    public CompletableFuture<Boolean> prefetchChunkData(int x, int z) {
+        synchronized (this.syncLockObject) {
+            if (this.pendingAnvilChunksCoordinates.contains(new ChunkCoordIntPair(x, z))) {
+                // The chunk is still queued for saving, it is loaded from the queue
+                return CompletableFuture.completedFuture(true);
+            }
+            return this.prefetcher.prefetchExists(x, z);
+        }
+    }
+
+    @Override
+    public void discardPrefetchedChunkData(int x, int z) {
+        this.prefetcher.invalidate(x, z);
+    }
+
+    @Inject(method = "loadChunk", at = @At("HEAD"), cancellable = true)
+    public void onLoadChunk(World worldIn, int x, int z, CallbackInfoReturnable<Chunk> cir) {
+        NBTTagCompound compound = this.prefetcher.take(x, z);
+        if (compound != null) {
+            cir.setReturnValue(this.checkedReadChunkFromNBT(worldIn, x, z, compound));
+        }
+    }
+
+    @Redirect(method = "loadChunk", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/nbt/CompressedStreamTools;read(Ljava/io/DataInputStream;)Lnet/minecraft/nbt/NBTTagCompound;"))
+    private NBTTagCompound onReadChunkData(DataInputStream input) throws IOException {
+        // Vanilla never closes the stream, which keeps mapped region reads locked if the data is corrupt
+        try {
+            return CompressedStreamTools.read(input);
+        } finally {
+            input.close();
+        }
+    }
+
+    @Inject(method = "addChunkToPending", at = @At("HEAD"))
+    public void onAddChunkToPending(ChunkCoordIntPair coords, NBTTagCompound compound, CallbackInfo ci) {
+        // The data on disk is outdated once the chunk is queued for saving
+        synchronized (this.syncLockObject) {
+            this.prefetcher.invalidate(coords.chunkXPos, coords.chunkZPos);
+        }
+    }
+
+}
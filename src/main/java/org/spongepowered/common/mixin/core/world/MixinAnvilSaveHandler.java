@@ -32,6 +32,7 @@
 import org.spongepowered.api.util.annotation.NonnullByDefault;
 import org.spongepowered.asm.mixin.Mixin;
 import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.common.world.storage.region.RegionStorage;
 
 import java.io.File;
 
@@ -50,6 +51,7 @@ public IChunkLoader getChunkLoader(WorldProvider provider) {
         // we won't be generating a DIMXX folder for chunk loaders since this name is already generated
         // for the world container with provider.getSaveFolder().
         // This allows users to remove our mod and maintain world compatibility.
-        return new AnvilChunkLoader(this.getWorldDirectory());
+        // Chunks compressed with codecs vanilla can't read are stored in a separate folder, so vanilla never regenerates them.
+        return new AnvilChunkLoader(RegionStorage.getChunkFolder(this.getWorldDirectory()));
     }
 }
@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.mixin.core.world;
+
+import net.minecraft.world.chunk.storage.RegionFile;
+import org.spongepowered.api.util.annotation.NonnullByDefault;
+import org.spongepowered.asm.mixin.Mixin;
+import org.spongepowered.asm.mixin.Overwrite;
+import org.spongepowered.asm.mixin.Shadow;
+import org.spongepowered.asm.mixin.injection.At;
+import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
+import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.IMixinRegionFile;
+import org.spongepowered.common.world.storage.region.ChunkCompression;
+import org.spongepowered.common.world.storage.region.MappedRegionReader;
+import org.spongepowered.common.world.storage.region.RegionChunkBuffer;
+import org.spongepowered.common.world.storage.region.RegionStorage;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.List;
+import java.util.Optional;
+
+import javax.annotation.Nullable;
+
+@NonnullByDefault
+@Mixin(RegionFile.class)
+public abstract class MixinRegionFile implements IMixinRegionFile {
+
+    @Shadow private File fileName;
+    @Shadow private RandomAccessFile dataFile;
+    @Shadow private List<Boolean> sectorFree;
+    @Shadow protected abstract void write(int x, int z, byte[] data, int length);
+
+    // The compression type written in front of the chunk data by write(int, byte[], int)
+    private byte writeType = ChunkCompression.DEFLATE.getType();
+    @Nullable private MappedRegionReader mappedReader;
+
+    @Shadow
+    private boolean outOfBounds(int x, int z) {
+        return false; // Shadowed
+    }
+
+    @Shadow
+    private int getOffset(int x, int z) {
+        return 0; // Shadowed
+    }
+
+    /**
+     * Reads the chunk data with the codec matching its compression type,
+     * instead of only gzip and deflate. If enabled, the data is streamed from
+     * a memory mapped file instead, which only holds the lock of this region
+     * while the chunk is looked up.
+     */
+    @Overwrite
+    public synchronized DataInputStream getChunkDataInputStream(int x, int z) {
+        if (this.outOfBounds(x, z)) {
+            return null;
+        }
+        try {
+            int offset = this.getOffset(x, z);
+            if (offset == 0) {
+                return null;
+            }
+            int sector = offset >> 8;
+            int sectors = offset & 255;
+            if (sector + sectors > this.sectorFree.size()) {
+                return null;
+            }
+            if (Sponge.getGlobalConfig().getConfig().getStorage().useMappedRegionReads()) {
+                if (this.mappedReader == null) {
+                    this.mappedReader = new MappedRegionReader(this.fileName);
+                }
+                return this.mappedReader.read(sector, sectors);
+            }
+            this.dataFile.seek(sector * 4096L);
+            int length = this.dataFile.readInt();
+            if (length > 4096 * sectors || length <= 0) {
+                return null;
+            }
+            Optional<ChunkCompression> compression = ChunkCompression.getByType(this.dataFile.readByte());
+            if (!compression.isPresent()) {
+                return null;
+            }
+            byte[] data = new byte[length - 1];
+            this.dataFile.read(data);
+            return new DataInputStream(new BufferedInputStream(compression.get().decompress(new ByteArrayInputStream(data))));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Compresses the chunk data with the codec of the folder of this region
+     * file, instead of always using deflate. Region files vanilla opens are
+     * only written with codecs vanilla can read.
+     */
+    @Overwrite
+    public DataOutputStream getChunkDataOutputStream(int x, int z) {
+        if (this.outOfBounds(x, z)) {
+            return null;
+        }
+        ChunkCompression compression = RegionStorage.getWriteCompression(this.fileName);
+        try {
+            return new DataOutputStream(compression.compress(new RegionChunkBuffer(this, x, z, compression.getType())));
+        } catch (IOException e) {
+            return null;
+        }
+    }
+
+    @Inject(method = "close", at = @At("HEAD"))
+    public void onClose(CallbackInfo ci) throws IOException {
+        synchronized (this) {
+            if (this.mappedReader != null) {
+                this.mappedReader.close();
+                this.mappedReader = null;
+            }
+        }
+    }
+
+    @Override
+    public void writeChunkData(int x, int z, byte type, byte[] data, int length) {
+        synchronized (this) {
+            // Sectors freed by the write may be reused while a mapped read still streams them
+            MappedRegionReader reader = this.mappedReader;
+            long stamp = reader == null ? 0 : reader.lockWrite();
+            this.writeType = type;
+            try {
+                this.write(x, z, data, length);
+            } finally {
+                this.writeType = ChunkCompression.DEFLATE.getType();
+                if (reader != null) {
+                    reader.unlockWrite(stamp);
+                }
+            }
+        }
+    }
+
+    @Redirect(method = "write(I[BI)V", at = @At(value = "INVOKE", target = "Ljava/io/RandomAccessFile;writeByte(I)V"))
+    private void onWriteCompressionType(RandomAccessFile file, int type) throws IOException {
+        file.writeByte(this.writeType);
+    }
+
+}
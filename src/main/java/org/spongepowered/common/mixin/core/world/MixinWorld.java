@@ -54,6 +54,7 @@
 import net.minecraft.profiler.Profiler;
 import net.minecraft.scoreboard.Scoreboard;
 import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.gui.IUpdatePlayerListBox;
 import net.minecraft.server.management.ServerConfigurationManager;
 import net.minecraft.util.AxisAlignedBB;
 import net.minecraft.util.BlockPos;
@@ -131,6 +132,7 @@
 import org.spongepowered.asm.mixin.Shadow;
 import org.spongepowered.asm.mixin.injection.At;
 import org.spongepowered.asm.mixin.injection.Inject;
+import org.spongepowered.asm.mixin.injection.Redirect;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfo;
 import org.spongepowered.asm.mixin.injection.callback.CallbackInfoReturnable;
 import org.spongepowered.common.Sponge;
@@ -139,14 +141,18 @@
 import org.spongepowered.common.data.property.SpongePropertyRegistry;
 import org.spongepowered.common.effect.particle.SpongeParticleEffect;
 import org.spongepowered.common.effect.particle.SpongeParticleHelper;
+import org.spongepowered.common.entity.EntityActivationRange;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldSettings;
 import org.spongepowered.common.interfaces.IMixinWorldType;
+import org.spongepowered.common.interfaces.entity.IMixinEntity;
 import org.spongepowered.common.registry.SpongeGameRegistry;
 import org.spongepowered.common.scoreboard.SpongeScoreboard;
 import org.spongepowered.common.util.SpongeHooks;
 import org.spongepowered.common.util.VecHelper;
+import org.spongepowered.common.world.ChunkTickTimings;
 import org.spongepowered.common.world.DimensionManager;
+import org.spongepowered.common.world.TileEntityTickThrottle;
 import org.spongepowered.common.world.border.PlayerBorderListener;
 import org.spongepowered.common.world.extent.ExtentViewDownsize;
 import org.spongepowered.common.world.extent.ExtentViewTransform;
@@ -155,6 +161,7 @@
 import org.spongepowered.common.world.gen.SpongeBiomeGenerator;
 import org.spongepowered.common.world.gen.SpongeGeneratorPopulator;
 import org.spongepowered.common.world.gen.SpongeWorldGenerator;
+import org.spongepowered.common.world.storage.AsyncChunkLoader;
 import org.spongepowered.common.world.storage.SpongeChunkLayout;
 
 import java.io.File;
@@ -166,6 +173,7 @@
 import java.util.Random;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -189,8 +197,10 @@ public abstract class MixinWorld implements World, IMixinWorld {
     private ImmutableList<GeneratorPopulator> generatorPopulators;
 
     protected SpongeScoreboard spongeScoreboard = new SpongeScoreboard();
+    protected final ChunkTickTimings chunkTickTimings = new ChunkTickTimings();
 
     @Shadow public WorldProvider provider;
+    @Shadow public boolean isRemote;
     @Shadow protected WorldInfo worldInfo;
     @Shadow public Random rand;
     @Shadow public List<net.minecraft.entity.Entity> loadedEntityList;
@@ -255,6 +265,49 @@ public void onGetCollidingBoundingBoxes(net.minecraft.entity.Entity entity, Axis
         }
     }
 
+    @Inject(method = "updateEntities()V", at = @At("HEAD"))
+    public void onUpdateEntities(CallbackInfo ci) {
+        EntityActivationRange.activateEntities((net.minecraft.world.World) (Object) this);
+    }
+
+    @Inject(method = "updateEntityWithOptionalForce(Lnet/minecraft/entity/Entity;Z)V", at = @At("HEAD"), cancellable = true)
+    public void onUpdateEntityWithOptionalForce(net.minecraft.entity.Entity entity, boolean forceUpdate, CallbackInfo ci) {
+        if (forceUpdate && !EntityActivationRange.checkIfActive(entity)) {
+            entity.ticksExisted++;
+            ((IMixinEntity) entity).inactiveTick();
+            ci.cancel();
+        }
+    }
+
+    @Redirect(method = "updateEntities()V",
+            at = @At(value = "INVOKE", target = "Lnet/minecraft/world/World;updateEntity(Lnet/minecraft/entity/Entity;)V"))
+    public void onUpdateEntity(net.minecraft.world.World world, net.minecraft.entity.Entity entity) {
+        if (this.isRemote || !ChunkTickTimings.isEnabled()) {
+            world.updateEntity(entity);
+            return;
+        }
+        int chunkX = entity.chunkCoordX;
+        int chunkZ = entity.chunkCoordZ;
+        long start = System.nanoTime();
+        world.updateEntity(entity);
+        this.chunkTickTimings.record(this.worldInfo.getWorldTotalTime(), chunkX, chunkZ, ChunkTickTimings.ENTITY, System.nanoTime() - start);
+    }
+
+    @Redirect(method = "updateEntities()V", at = @At(value = "INVOKE", target = "Lnet/minecraft/server/gui/IUpdatePlayerListBox;update()V"))
+    public void onUpdateTileEntity(IUpdatePlayerListBox tickable) {
+        if (this.isRemote) {
+            tickable.update();
+        } else if (!ChunkTickTimings.isEnabled() || !(tickable instanceof net.minecraft.tileentity.TileEntity)) {
+            TileEntityTickThrottle.update(tickable);
+        } else {
+            BlockPos pos = ((net.minecraft.tileentity.TileEntity) tickable).getPos();
+            long start = System.nanoTime();
+            TileEntityTickThrottle.update(tickable);
+            this.chunkTickTimings.record(this.worldInfo.getWorldTotalTime(), pos.getX() >> 4, pos.getZ() >> 4, ChunkTickTimings.TILE_ENTITY,
+                    System.nanoTime() - start);
+        }
+    }
+
     @Override
     public UUID getUniqueId() {
         return ((WorldProperties) this.worldInfo).getUniqueId();
@@ -301,6 +354,14 @@ public Optional<Chunk> loadChunk(int x, int y, int z, boolean shouldGenerate) {
         return Optional.ofNullable((Chunk) chunk);
     }
 
+    @Override
+    public CompletableFuture<Optional<Chunk>> loadChunkAsync(int x, int y, int z, boolean shouldGenerate) {
+        if (!SpongeChunkLayout.instance.isValidChunk(x, y, z)) {
+            return CompletableFuture.completedFuture(Optional.empty());
+        }
+        return AsyncChunkLoader.loadChunk((WorldServer) (Object) this, x, z, shouldGenerate);
+    }
+
     @Override
     public BlockState getBlock(int x, int y, int z) {
         checkBlockBounds(x, y, z);
@@ -559,6 +620,11 @@ public SpongeConfig<SpongeConfig.WorldConfig> getWorldConfig() {
         return this.worldConfig;
     }
 
+    @Override
+    public ChunkTickTimings getChunkTickTimings() {
+        return this.chunkTickTimings;
+    }
+
     @Override
     public void playSound(SoundType sound, Vector3d position, double volume) {
         this.playSound(sound, position, volume, 1);
@@ -25,6 +25,8 @@
 package org.spongepowered.common.mixin.core.world;
 
 import com.google.common.collect.ImmutableList;
+import net.minecraft.block.Block;
+import net.minecraft.block.state.IBlockState;
 import net.minecraft.entity.player.EntityPlayer;
 import net.minecraft.scoreboard.ScoreboardSaveData;
 import net.minecraft.util.BlockPos;
@@ -51,18 +53,30 @@
 import org.spongepowered.common.interfaces.IMixinScoreboardSaveData;
 import org.spongepowered.common.interfaces.IMixinWorld;
 import org.spongepowered.common.interfaces.IMixinWorldInfo;
+import org.spongepowered.common.interfaces.IMixinWorldServer;
+import org.spongepowered.common.world.ChunkTickTimings;
+import org.spongepowered.common.world.ScheduledBlockUpdateSet;
 
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Random;
 import java.util.Set;
 import java.util.TreeSet;
 
 @NonnullByDefault
 @Mixin(WorldServer.class)
-public abstract class MixinWorldServer extends MixinWorld {
+public abstract class MixinWorldServer extends MixinWorld implements IMixinWorldServer {
 
     @Shadow private Set<NextTickListEntry> pendingTickListEntriesHashSet;
     @Shadow private TreeSet<NextTickListEntry> pendingTickListEntriesTreeSet;
 
+    @Redirect(method = "<init>", at = @At(value = "INVOKE", target = "Lcom/google/common/collect/Sets;newHashSet()Ljava/util/HashSet;",
+            ordinal = 0, remap = false))
+    private HashSet<NextTickListEntry> onCreatePendingTickListEntriesHashSet() {
+        // Indexes the pending block updates by position and chunk
+        return new ScheduledBlockUpdateSet();
+    }
+
     @Inject(method = "createSpawnPosition(Lnet/minecraft/world/WorldSettings;)V", at = @At("HEAD"), cancellable = true)
     public void onCreateSpawnPosition(WorldSettings settings, CallbackInfo ci) {
         GeneratorType generatorType = (GeneratorType) settings.getTerrainType();
@@ -101,6 +115,12 @@ public void onPostInit(CallbackInfoReturnable<World> ci) {
     public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z) {
         BlockPos position = new BlockPos(x, y, z);
         ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
+        if (this.pendingTickListEntriesHashSet instanceof ScheduledBlockUpdateSet) {
+            for (NextTickListEntry sbu : ((ScheduledBlockUpdateSet) this.pendingTickListEntriesHashSet).getUpdates(position)) {
+                builder.add((ScheduledBlockUpdate) sbu);
+            }
+            return builder.build();
+        }
         for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
             if (sbu.position.equals(position)) {
                 builder.add((ScheduledBlockUpdate) sbu);
@@ -109,6 +129,23 @@ public Collection<ScheduledBlockUpdate> getScheduledUpdates(int x, int y, int z)
         return builder.build();
     }
 
+    @Override
+    public Collection<ScheduledBlockUpdate> getScheduledUpdatesInChunk(int chunkX, int chunkZ) {
+        ImmutableList.Builder<ScheduledBlockUpdate> builder = ImmutableList.builder();
+        if (this.pendingTickListEntriesHashSet instanceof ScheduledBlockUpdateSet) {
+            for (NextTickListEntry sbu : ((ScheduledBlockUpdateSet) this.pendingTickListEntriesHashSet).getUpdatesInChunk(chunkX, chunkZ)) {
+                builder.add((ScheduledBlockUpdate) sbu);
+            }
+            return builder.build();
+        }
+        for (NextTickListEntry sbu : this.pendingTickListEntriesTreeSet) {
+            if (sbu.position.getX() >> 4 == chunkX && sbu.position.getZ() >> 4 == chunkZ) {
+                builder.add((ScheduledBlockUpdate) sbu);
+            }
+        }
+        return builder.build();
+    }
+
     private NextTickListEntry tmpScheduledObj;
 
     @Redirect(method = "updateBlockTick(Lnet/minecraft/util/BlockPos;Lnet/minecraft/block/Block;II)V",
@@ -141,6 +178,34 @@ public void removeScheduledUpdate(int x, int y, int z, ScheduledBlockUpdate upda
         this.pendingTickListEntriesTreeSet.remove(update);
     }
 
+    @Redirect(method = "tickUpdates(Z)Z", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/block/Block;updateTick(Lnet/minecraft/world/World;Lnet/minecraft/util/BlockPos;"
+                    + "Lnet/minecraft/block/state/IBlockState;Ljava/util/Random;)V"))
+    public void onUpdateTick(Block block, World world, BlockPos pos, IBlockState state, Random rand) {
+        if (!ChunkTickTimings.isEnabled()) {
+            block.updateTick(world, pos, state, rand);
+            return;
+        }
+        long start = System.nanoTime();
+        block.updateTick(world, pos, state, rand);
+        this.chunkTickTimings.record(this.worldInfo.getWorldTotalTime(), pos.getX() >> 4, pos.getZ() >> 4, ChunkTickTimings.BLOCK,
+                System.nanoTime() - start);
+    }
+
+    @Redirect(method = "updateBlocks()V", at = @At(value = "INVOKE",
+            target = "Lnet/minecraft/block/Block;randomTick(Lnet/minecraft/world/World;Lnet/minecraft/util/BlockPos;"
+                    + "Lnet/minecraft/block/state/IBlockState;Ljava/util/Random;)V"))
+    public void onRandomTick(Block block, World world, BlockPos pos, IBlockState state, Random rand) {
+        if (!ChunkTickTimings.isEnabled()) {
+            block.randomTick(world, pos, state, rand);
+            return;
+        }
+        long start = System.nanoTime();
+        block.randomTick(world, pos, state, rand);
+        this.chunkTickTimings.record(this.worldInfo.getWorldTotalTime(), pos.getX() >> 4, pos.getZ() >> 4, ChunkTickTimings.BLOCK,
+                System.nanoTime() - start);
+    }
+
     @Redirect(method = "updateAllPlayersSleepingFlag()V", at = @At(value = "INVOKE",
             target = "Lnet/minecraft/entity/player/EntityPlayer;isSpectator()Z"))
     public boolean isSpectatorOrIgnored(EntityPlayer entityPlayer) {
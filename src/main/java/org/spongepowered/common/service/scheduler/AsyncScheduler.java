@@ -24,27 +24,20 @@
  */
 package org.spongepowered.common.service.scheduler;
 
-import org.spongepowered.api.service.scheduler.Task;
+import com.google.common.collect.ImmutableList;
 import org.spongepowered.common.Sponge;
 
-import java.util.Set;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
+import java.util.List;
+import java.util.concurrent.DelayQueue;
+import java.util.concurrent.Delayed;
 import java.util.concurrent.TimeUnit;
-import java.util.concurrent.locks.Condition;
-import java.util.concurrent.locks.Lock;
-import java.util.concurrent.locks.ReentrantLock;
 
 public class AsyncScheduler extends SchedulerBase {
 
-    // Adjustable timeout for pending Tasks
-    private long minimumTimeout = Long.MAX_VALUE;
-    private long lastProcessingTimestamp;
-    // Locking mechanism
-    private final Lock lock = new ReentrantLock();
-    private final Condition condition = this.lock.newCondition();
-    // The dynamic thread pooling executor of asynchronous tasks.
-    private ExecutorService executor;
+    // The pending tasks, each one becomes available once it is due
+    private final DelayQueue<DueTask> queue = new DelayQueue<>();
+    // The bounded thread pool executing asynchronous tasks, fair between plugins.
+    private volatile FairTaskExecutor executor;
 
     AsyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.ASYNCHRONOUS);
@@ -56,89 +49,94 @@ public class AsyncScheduler extends SchedulerBase {
     }
 
     private void mainLoop() {
-        this.executor = Executors.newCachedThreadPool();
-        this.lastProcessingTimestamp = System.currentTimeMillis();
-        while (true) {
-            recalibrateMinimumTimeout();
-            this.runTick();
+        int threads = Sponge.getGlobalConfig().getConfig().getScheduler().getAsyncThreads();
+        if (threads <= 0) {
+            threads = Math.max(4, Runtime.getRuntime().availableProcessors());
         }
-    }
+        this.executor = new FairTaskExecutor(threads);
 
-    private void recalibrateMinimumTimeout() {
-        this.lock.lock();
-        try {
-            Set<Task> tasks = this.getScheduledTasks();
-            this.minimumTimeout = Long.MAX_VALUE;
-            long now = System.currentTimeMillis();
-            for (Task tmpTask : tasks) {
-                ScheduledTask task = (ScheduledTask) tmpTask;
-                // Recalibrate the wait delay for processing tasks before new
-                // tasks cause the scheduler to process pending tasks.
-                if (task.offset == 0 && task.period == 0) {
-                    this.minimumTimeout = 0;
-                }
-                // The time since the task last executed or was added to the map
-                long timeSinceLast = now - task.getTimestamp();
-
-                if (task.offset > 0 && task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
-                    // There is an offset and the task hasn't run yet
-                    this.minimumTimeout = Math.min(task.offset - timeSinceLast, this.minimumTimeout);
-                }
-                if (task.period > 0 && task.getState().isActive) {
-                    // The task repeats and has run after the initial delay
-                    this.minimumTimeout = Math.min(task.period - timeSinceLast, this.minimumTimeout);
-                }
-                if (this.minimumTimeout <= 0) {
-                    break;
-                }
-            }
-            if (!tasks.isEmpty()) {
-                long latency = System.currentTimeMillis() - this.lastProcessingTimestamp;
-                this.minimumTimeout -= (latency <= 0) ? 0 : latency;
-                this.minimumTimeout = (this.minimumTimeout < 0) ? 0 : this.minimumTimeout;
+        while (true) {
+            try {
+                // Blocks until the next task is due
+                DueTask dueTask = this.queue.take();
+                dueTask.task.dueMillis = dueTask.due;
+                processTask(dueTask.task);
+            } catch (InterruptedException ignored) {
+                // Continue on without handling the Exception.
+            } catch (Throwable t) {
+                Sponge.getLogger().error("The async scheduler failed to process a task", t);
             }
-        } finally {
-            this.lock.unlock();
         }
     }
 
+    /**
+     * Processes a task which is due. Repeating tasks are queued again.
+     *
+     * @param task The task to process
+     */
     @Override
-    protected void preTick() {
-        this.lock.lock();
-        try {
-            this.condition.await(this.minimumTimeout, TimeUnit.MILLISECONDS);
-        } catch (InterruptedException ignored) {
-            // The taskMap has been modified; there is work to do.
-            // Continue on without handling the Exception.
-        } catch (IllegalMonitorStateException e) {
-            Sponge.getLogger().error("The scheduler internal state machine suffered a catastrophic error", e);
+    protected void processTask(ScheduledTask task) {
+        // If the task is now slated to be cancelled, we just remove it as if it
+        // no longer exists.
+        if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+            this.removeTask(task);
+            return;
         }
-    }
 
-    @Override
-    protected void postTick() {
-        this.lastProcessingTimestamp = System.currentTimeMillis();
+        task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+        task.setTimestamp(this.getTimestamp(task));
+        startTask(task);
+        // If task is one time shot, remove it from the map.
+        if (task.period == 0L) {
+            this.removeTask(task);
+        } else {
+            this.queue.add(new DueTask(task.getTimestamp() + task.period, task));
+        }
     }
 
     @Override
-    protected void finallyPostTick() {
-        this.lock.unlock();
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
+        this.executor.execute(task.getOwner(), runnable);
     }
 
-    @Override
-    protected void executeTaskRunnable(Runnable runnable) {
-        this.executor.submit(runnable);
+    /**
+     * Gets the asynchronous task metrics of each plugin that submitted
+     * asynchronous tasks.
+     *
+     * @return The task metrics
+     */
+    List<PluginTaskStats> getTaskStats() {
+        FairTaskExecutor executor = this.executor;
+        return executor == null ? ImmutableList.of() : executor.getStats();
     }
 
     @Override
     protected void addTask(ScheduledTask task) {
-        this.lock.lock();
-        try {
-            super.addTask(task);
-            this.condition.signalAll();
-        } finally {
-            this.lock.unlock();
+        super.addTask(task);
+        this.queue.add(new DueTask(task.getTimestamp() + task.offset, task));
+    }
+
+    private static final class DueTask implements Delayed {
+
+        // The time in milliseconds the task is due
+        final long due;
+        final ScheduledTask task;
+
+        DueTask(long due, ScheduledTask task) {
+            this.due = due;
+            this.task = task;
+        }
+
+        @Override
+        public long getDelay(TimeUnit unit) {
+            return unit.convert(this.due - System.currentTimeMillis(), TimeUnit.MILLISECONDS);
+        }
+
+        @Override
+        public int compareTo(Delayed other) {
+            return Long.compare(this.due, ((DueTask) other).due);
         }
+
     }
 
 }
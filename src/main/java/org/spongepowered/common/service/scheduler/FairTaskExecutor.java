@@ -0,0 +1,221 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfig;
+
+import java.util.ArrayDeque;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Runs the asynchronous tasks of all plugins on a bounded thread pool. Each
+ * plugin has its own queue and a limit of tasks that may run at the same
+ * time. Free threads are given to the plugin that used the least run time
+ * relative to its weight, so a plugin flooding the scheduler with tasks
+ * can't starve the other plugins.
+ */
+class FairTaskExecutor {
+
+    private final int threads;
+    private final Executor pool;
+    // All state below is guarded by this
+    private final Map<PluginContainer, PluginQueue> queues = new LinkedHashMap<>();
+    private int running;
+    // The virtual time of the last started task, newly active queues start from here
+    private double virtualTime;
+    // The revision of the config the limits and weights of the queues were resolved from
+    private int configRevision;
+
+    FairTaskExecutor(int threads) {
+        this(threads, createPool(threads));
+    }
+
+    FairTaskExecutor(int threads, Executor pool) {
+        this.threads = threads;
+        this.pool = pool;
+    }
+
+    private static Executor createPool(int threads) {
+        ThreadPoolExecutor pool = new ThreadPoolExecutor(threads, threads, 60, TimeUnit.SECONDS, new LinkedBlockingQueue<>(),
+                new ThreadFactoryBuilder().setNameFormat("Sponge Async Scheduler Worker #%d").setDaemon(true).build());
+        pool.allowCoreThreadTimeOut(true);
+        return pool;
+    }
+
+    synchronized void execute(PluginContainer plugin, Runnable runnable) {
+        PluginQueue queue = this.queues.get(plugin);
+        if (queue == null) {
+            queue = new PluginQueue(plugin);
+            this.resolveSettings(queue);
+            this.queues.put(plugin, queue);
+        }
+        if (queue.pending.isEmpty() && queue.running == 0) {
+            // Don't let a plugin that was idle catch up on the time it didn't use
+            queue.virtualTime = Math.max(queue.virtualTime, this.virtualTime);
+        }
+        queue.pending.add(new PendingTask(runnable, this.nanoTime()));
+        dispatch();
+    }
+
+    private void dispatch() {
+        int revision = this.getConfigRevision();
+        if (revision != this.configRevision) {
+            this.configRevision = revision;
+            for (PluginQueue queue : this.queues.values()) {
+                this.resolveSettings(queue);
+            }
+        }
+        while (this.running < this.threads) {
+            PluginQueue next = null;
+            for (PluginQueue queue : this.queues.values()) {
+                if (!queue.pending.isEmpty() && queue.running < queue.limit
+                        && (next == null || queue.virtualTime < next.virtualTime)) {
+                    next = queue;
+                }
+            }
+            if (next == null) {
+                return;
+            }
+
+            final PluginQueue queue = next;
+            final PendingTask task = queue.pending.poll();
+            long waitNanos = this.nanoTime() - task.queuedNanos;
+            queue.totalWaitNanos += waitNanos;
+            queue.maxWaitNanos = Math.max(queue.maxWaitNanos, waitNanos);
+            queue.running++;
+            this.running++;
+            this.virtualTime = queue.virtualTime;
+            this.pool.execute(() -> run(queue, task));
+        }
+    }
+
+    private void run(PluginQueue queue, PendingTask task) {
+        long start = this.nanoTime();
+        try {
+            task.runnable.run();
+        } finally {
+            long runNanos = this.nanoTime() - start;
+            synchronized (this) {
+                queue.running--;
+                this.running--;
+                queue.completed++;
+                queue.totalRunNanos += runNanos;
+                queue.virtualTime += runNanos / queue.weight;
+                dispatch();
+            }
+        }
+    }
+
+    private void resolveSettings(PluginQueue queue) {
+        int limit = this.getLimit(queue.plugin);
+        queue.limit = limit <= 0 ? this.threads : limit;
+        double weight = this.getWeight(queue.plugin);
+        queue.weight = weight <= 0 ? 1 : weight;
+    }
+
+    int getConfigRevision() {
+        return Sponge.getGlobalConfig().getRevision();
+    }
+
+    /**
+     * Gets the maximum number of tasks of a plugin that may run at the same
+     * time.
+     *
+     * @param plugin The plugin
+     * @return The limit, or 0 if the plugin may use all threads
+     */
+    int getLimit(PluginContainer plugin) {
+        SpongeConfig.SchedulerCategory config = Sponge.getGlobalConfig().getConfig().getScheduler();
+        Integer limit = config.getPluginAsyncLimits().get(plugin.getId());
+        return limit == null ? config.getDefaultPluginAsyncLimit() : limit;
+    }
+
+    /**
+     * Gets the share of run time a plugin gets compared to other plugins.
+     *
+     * @param plugin The plugin
+     * @return The weight, or 0 for the default weight
+     */
+    double getWeight(PluginContainer plugin) {
+        Double weight = Sponge.getGlobalConfig().getConfig().getScheduler().getPluginAsyncWeights().get(plugin.getId());
+        return weight == null ? 0 : weight;
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    synchronized List<PluginTaskStats> getStats() {
+        ImmutableList.Builder<PluginTaskStats> stats = ImmutableList.builder();
+        for (PluginQueue queue : this.queues.values()) {
+            stats.add(new PluginTaskStats(queue.plugin, queue.pending.size(), queue.running, queue.completed, queue.totalWaitNanos,
+                    queue.maxWaitNanos, queue.totalRunNanos));
+        }
+        return stats.build();
+    }
+
+    private static final class PendingTask {
+
+        final Runnable runnable;
+        final long queuedNanos;
+
+        PendingTask(Runnable runnable, long queuedNanos) {
+            this.runnable = runnable;
+            this.queuedNanos = queuedNanos;
+        }
+
+    }
+
+    private static final class PluginQueue {
+
+        final PluginContainer plugin;
+        final Queue<PendingTask> pending = new ArrayDeque<>();
+        int limit;
+        double weight;
+        int running;
+        double virtualTime;
+        long completed;
+        long totalWaitNanos;
+        long maxWaitNanos;
+        long totalRunNanos;
+
+        PluginQueue(PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+    }
+
+}
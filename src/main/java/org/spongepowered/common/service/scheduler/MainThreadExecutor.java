@@ -0,0 +1,74 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.common.Sponge;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * An executor that runs its commands on the main thread, once per tick.
+ *
+ * <p>Commands may be submitted from any thread and are run in the order
+ * they were submitted. Unlike synchronous tasks, no {@link ScheduledTask} is
+ * created for them.</p>
+ */
+final class MainThreadExecutor implements Executor {
+
+    private final Queue<Runnable> commands = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger pending = new AtomicInteger();
+
+    @Override
+    public void execute(Runnable command) {
+        this.commands.add(checkNotNull(command, "command"));
+        this.pending.incrementAndGet();
+    }
+
+    /**
+     * Runs the commands that were submitted before this call. Commands
+     * submitted while draining are run on the next tick.
+     */
+    void drain() {
+        int count = this.pending.get();
+        for (int i = 0; i < count; i++) {
+            Runnable command = this.commands.poll();
+            if (command == null) {
+                break;
+            }
+            this.pending.decrementAndGet();
+            try {
+                command.run();
+            } catch (Throwable t) {
+                Sponge.getLogger().error("An error occured while running {} on the main thread.", command, t);
+            }
+        }
+    }
+
+}
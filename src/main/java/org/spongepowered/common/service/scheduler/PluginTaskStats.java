@@ -0,0 +1,81 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import org.spongepowered.api.plugin.PluginContainer;
+
+/**
+ * A snapshot of the asynchronous task metrics of a plugin.
+ */
+public final class PluginTaskStats {
+
+    private final PluginContainer plugin;
+    private final int queued;
+    private final int running;
+    private final long completed;
+    private final long totalWaitNanos;
+    private final long maxWaitNanos;
+    private final long totalRunNanos;
+
+    PluginTaskStats(PluginContainer plugin, int queued, int running, long completed, long totalWaitNanos, long maxWaitNanos,
+            long totalRunNanos) {
+        this.plugin = plugin;
+        this.queued = queued;
+        this.running = running;
+        this.completed = completed;
+        this.totalWaitNanos = totalWaitNanos;
+        this.maxWaitNanos = maxWaitNanos;
+        this.totalRunNanos = totalRunNanos;
+    }
+
+    public PluginContainer getPlugin() {
+        return this.plugin;
+    }
+
+    public int getQueued() {
+        return this.queued;
+    }
+
+    public int getRunning() {
+        return this.running;
+    }
+
+    public long getCompleted() {
+        return this.completed;
+    }
+
+    public long getTotalWaitNanos() {
+        return this.totalWaitNanos;
+    }
+
+    public long getMaxWaitNanos() {
+        return this.maxWaitNanos;
+    }
+
+    public long getTotalRunNanos() {
+        return this.totalRunNanos;
+    }
+
+}
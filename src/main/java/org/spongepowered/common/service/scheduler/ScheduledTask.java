@@ -40,6 +40,8 @@ public class ScheduledTask implements Task {
     final long period;
     final boolean delayIsTicks;
     final boolean intervalIsTicks;
+    // Priority tasks are never deferred by the tick budget of the sync scheduler
+    final boolean priority;
     private final PluginContainer owner;
     private final Consumer<Task> consumer;
     private long timestamp;
@@ -48,6 +50,11 @@ public class ScheduledTask implements Task {
     private final String name;
     private final TaskSynchronicity syncType;
     private final String stringRepresentation;
+    // The number of ticks this task was deferred since it was due
+    int deferrals;
+    // The time in milliseconds the next run of this task is due
+    volatile long dueMillis;
+    private final TaskMetrics metrics = new TaskMetrics();
 
     // Internal Task state. Not for user-service use.
     public enum ScheduledTaskState {
@@ -76,13 +83,14 @@ private ScheduledTaskState(boolean active) {
     }
 
     ScheduledTask(TaskSynchronicity syncType, Consumer<Task> task, String taskName, long delay, boolean delayIsTicks, long interval,
-            boolean intervalIsTicks, PluginContainer pluginContainer) {
+            boolean intervalIsTicks, boolean priority, PluginContainer pluginContainer) {
         // All tasks begin waiting.
         this.setState(ScheduledTaskState.WAITING);
         this.offset = delay;
         this.delayIsTicks = delayIsTicks;
         this.period = interval;
         this.intervalIsTicks = intervalIsTicks;
+        this.priority = priority;
         this.owner = pluginContainer;
         this.consumer = task;
         this.id = UUID.randomUUID();
@@ -124,6 +132,15 @@ public boolean cancel() {
         return success;
     }
 
+    /**
+     * Gets the execution metrics of this task.
+     *
+     * @return The metrics
+     */
+    public TaskMetrics getMetrics() {
+        return this.metrics;
+    }
+
     @Override
     public Consumer<Task> getConsumer() {
         return this.consumer;
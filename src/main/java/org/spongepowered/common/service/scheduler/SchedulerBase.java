@@ -59,6 +59,15 @@ protected String nextName(PluginContainer plugin) {
      */
     protected long getTimestamp(ScheduledTask task) {
         // Supports wall clock time by default
+        return this.currentTimeMillis();
+    }
+
+    /**
+     * Gets the current wall clock time in milliseconds.
+     *
+     * @return The current time
+     */
+    protected long currentTimeMillis() {
         return System.currentTimeMillis();
     }
 
@@ -88,23 +97,38 @@ protected Optional<Task> getTask(UUID id) {
 
     protected Set<Task> getScheduledTasks() {
         synchronized (this.taskMap) {
-            return Sets.<Task>newHashSet(this.taskMap.values());
+            Set<Task> tasks = Sets.newHashSet();
+            for (ScheduledTask task : this.taskMap.values()) {
+                // Cancelled tasks may only be removed once they would have been processed
+                if (task.getState() != ScheduledTask.ScheduledTaskState.CANCELED) {
+                    tasks.add(task);
+                }
+            }
+            return tasks;
         }
     }
 
     /**
-     * Process all tasks in the map.
+     * Process all tasks that are due.
      */
     protected final void runTick() {
         this.preTick();
         try {
-            this.taskMap.values().forEach(this::processTask);
+            this.processTasks();
             this.postTick();
         } finally {
             this.finallyPostTick();
         }
     }
 
+    /**
+     * Processes the tasks which may be due. By default, every task in the
+     * task map is checked.
+     */
+    protected void processTasks() {
+        this.taskMap.values().forEach(this::processTask);
+    }
+
     /**
      * Fired when the scheduler begins to tick, before any tasks are processed.
      */
@@ -163,27 +187,48 @@ protected void processTask(ScheduledTask task) {
     }
 
     /**
-     * Begin the execution of a task. Exceptions are caught and logged.
+     * Begin the execution of a task. Exceptions are caught and logged. If a
+     * task report interval is configured, the run time and lateness of the
+     * task are recorded in its metrics and in the task report.
      *
      * @param task The task to start
      */
     protected void startTask(final ScheduledTask task) {
-        this.executeTaskRunnable(() -> {
+        final long due = task.dueMillis;
+        this.executeTaskRunnable(task, () -> {
             task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            TaskReporter reporter = SpongeScheduler.getInstance().getTaskReporter();
+            if (!reporter.isEnabled()) {
+                runTask(task);
+                return;
+            }
+            long lateness = due == 0L ? 0L : Math.max(0L, System.currentTimeMillis() - due);
+            long start = System.nanoTime();
             try {
-                task.getConsumer().accept(task);
-            } catch (Throwable t) {
-                Sponge.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occured.", task.getName(),
-                        task.getOwner(), t);
+                runTask(task);
+            } finally {
+                long runNanos = System.nanoTime() - start;
+                task.getMetrics().record(lateness, runNanos);
+                reporter.record(task, lateness, runNanos);
             }
         });
     }
 
+    private static void runTask(ScheduledTask task) {
+        try {
+            task.getConsumer().accept(task);
+        } catch (Throwable t) {
+            Sponge.getLogger().error("The Scheduler tried to run the task {} owned by {}, but an error occured.", task.getName(),
+                    task.getOwner(), t);
+        }
+    }
+
     /**
      * Actually run the runnable that will begin the task
      *
+     * @param task The task the runnable belongs to
      * @param runnable The runnable to run
      */
-    protected abstract void executeTaskRunnable(Runnable runnable);
+    protected abstract void executeTaskRunnable(ScheduledTask task, Runnable runnable);
 
 }
@@ -33,11 +33,15 @@
 import org.spongepowered.api.service.scheduler.Task;
 import org.spongepowered.api.service.scheduler.TaskBuilder;
 import org.spongepowered.common.Sponge;
+import org.spongepowered.common.configuration.SpongeConfig;
 
 import java.util.Iterator;
+import java.util.List;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -48,6 +52,8 @@ public class SpongeScheduler implements SchedulerService {
 
     private final AsyncScheduler asyncScheduler;
     private final SyncScheduler syncScheduler;
+    private final TaskReporter taskReporter = new TaskReporter();
+    private int ticksSinceReport;
 
     private SpongeScheduler() {
         this.asyncScheduler = new AsyncScheduler();
@@ -165,11 +171,75 @@ void submit(ScheduledTask task) {
         getDelegate(task).addTask(task);
     }
 
+    /**
+     * Gets an executor that runs commands on the main thread, at the start of
+     * the next tick. It may be passed to the asynchronous methods of
+     * {@link java.util.concurrent.CompletableFuture} to continue
+     * asynchronous work on the main thread, for example
+     * {@code future.thenAcceptAsync(result -> ..., scheduler.getMainThreadExecutor())}.
+     *
+     * @return The main thread executor
+     */
+    public Executor getMainThreadExecutor() {
+        return this.syncScheduler.getMainThreadExecutor();
+    }
+
+    /**
+     * Gets the asynchronous task metrics of each plugin.
+     *
+     * @return The task metrics
+     */
+    public List<PluginTaskStats> getAsyncTaskStats() {
+        return this.asyncScheduler.getTaskStats();
+    }
+
+    /**
+     * Gets the number of times a due synchronous task was deferred to the
+     * next tick because the tick budget was used up.
+     *
+     * @return The number of deferrals
+     */
+    public long getSyncDeferrals() {
+        return this.syncScheduler.getDeferrals();
+    }
+
+    /**
+     * Gets the number of synchronous tasks that were deferred for longer
+     * than the configured number of ticks.
+     *
+     * @return The number of chronically deferred tasks
+     */
+    public long getSyncChronicDeferrals() {
+        return this.syncScheduler.getChronicDeferrals();
+    }
+
+    /**
+     * Gets the number of times a single synchronous task ran for longer
+     * than the whole tick budget.
+     *
+     * @return The number of overruns
+     */
+    public long getSyncOverruns() {
+        return this.syncScheduler.getOverruns();
+    }
+
     /**
      * Ticks the synchronous scheduler.
      */
     public void tickSyncScheduler() {
         this.syncScheduler.tick();
+
+        SpongeConfig.SchedulerCategory config = Sponge.getGlobalConfig().getConfig().getScheduler();
+        int interval = config.getTaskReportInterval();
+        this.taskReporter.setEnabled(interval > 0);
+        if (interval > 0 && ++this.ticksSinceReport >= TimeUnit.SECONDS.toMillis(interval) / TICK_DURATION) {
+            this.ticksSinceReport = 0;
+            this.taskReporter.report(interval, config.getTaskReportCount());
+        }
+    }
+
+    TaskReporter getTaskReporter() {
+        return this.taskReporter;
     }
 
 }
@@ -44,6 +44,7 @@ public class SpongeTaskBuilder implements TaskBuilder {
     private long interval;
     private boolean delayIsTicks;
     private boolean intervalIsTicks;
+    private boolean priority;
 
     public SpongeTaskBuilder() {
         this.syncType = ScheduledTask.TaskSynchronicity.SYNCHRONOUS;
@@ -100,6 +101,18 @@ public TaskBuilder name(String name) {
         return this;
     }
 
+    /**
+     * Marks the task as a priority task. Synchronous priority tasks are
+     * always run when they are due, even if the tick budget of the scheduler
+     * is used up.
+     *
+     * @return This builder, for chaining
+     */
+    public SpongeTaskBuilder priority() {
+        this.priority = true;
+        return this;
+    }
+
     @Override
     public Task submit(Object plugin) {
         PluginContainer pluginContainer = SpongeScheduler.checkPluginInstance(plugin);
@@ -119,7 +132,8 @@ public Task submit(Object plugin) {
             interval = intervalIsTicks ? interval * SpongeScheduler.TICK_DURATION : interval;
             delayIsTicks = intervalIsTicks = false;
         }
-        ScheduledTask task = new ScheduledTask(this.syncType, this.consumer, name, delay, delayIsTicks, interval, intervalIsTicks, pluginContainer);
+        ScheduledTask task = new ScheduledTask(this.syncType, this.consumer, name, delay, delayIsTicks, interval, intervalIsTicks,
+                this.priority, pluginContainer);
         SpongeScheduler.getInstance().submit(task);
         return task;
     }
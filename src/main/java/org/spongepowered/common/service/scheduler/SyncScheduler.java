@@ -24,11 +24,33 @@
  */
 package org.spongepowered.common.service.scheduler;
 
+import com.google.common.collect.Lists;
+import org.spongepowered.common.Sponge;
+
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+
 public class SyncScheduler extends SchedulerBase {
 
     // The number of ticks elapsed since this scheduler began.
     private volatile long counter = 0L;
 
+    // Tasks that were added since the last tick, possibly from other threads
+    private final Queue<ScheduledTask> addedTasks = new ConcurrentLinkedQueue<>();
+    // The pending tasks ordered by the tick or the time they are due. Only accessed on the main thread.
+    private final PriorityQueue<DueTask> tickQueue = new PriorityQueue<>();
+    private final PriorityQueue<DueTask> timeQueue = new PriorityQueue<>();
+
+    private final MainThreadExecutor mainThreadExecutor = new MainThreadExecutor();
+
+    // Counters for the tick budget, only written on the main thread
+    private volatile long deferrals;
+    private volatile long chronicDeferrals;
+    private volatile long overruns;
+
     SyncScheduler() {
         super(ScheduledTask.TaskSynchronicity.SYNCHRONOUS);
     }
@@ -62,8 +84,180 @@ protected long getTimestamp(ScheduledTask task) {
     }
 
     @Override
-    protected void executeTaskRunnable(Runnable runnable) {
+    protected void addTask(ScheduledTask task) {
+        super.addTask(task);
+        this.addedTasks.add(task);
+    }
+
+    /**
+     * Only processes the tasks that are due, instead of checking every task.
+     * Cancelled tasks stay queued and are removed once they are due.
+     *
+     * <p>If a tick budget is configured, due tasks are run in due order until
+     * the budget is used up. The remaining tasks, except priority tasks, are
+     * deferred to the next tick where they are the first to run.</p>
+     */
+    @Override
+    protected void processTasks() {
+        this.mainThreadExecutor.drain();
+
+        ScheduledTask task;
+        while ((task = this.addedTasks.poll()) != null) {
+            schedule(task);
+        }
+
+        long budget = this.getTickBudget();
+        int chronicDeferralTicks = this.getChronicDeferralTicks();
+        long start = this.nanoTime();
+        long now = this.currentTimeMillis();
+        List<DueTask> deferred = Lists.newArrayList();
+        DueTask dueTask;
+        while ((dueTask = pollDueTask(now)) != null) {
+            task = dueTask.task;
+            // If the task is now slated to be cancelled, we just remove it as if it
+            // no longer exists.
+            if (task.getState() == ScheduledTask.ScheduledTaskState.CANCELED) {
+                this.removeTask(task);
+                continue;
+            }
+
+            if (budget > 0 && !task.priority && this.nanoTime() - start >= budget) {
+                deferred.add(dueTask);
+                this.deferrals++;
+                if (++task.deferrals == chronicDeferralTicks) {
+                    this.chronicDeferrals++;
+                    this.logChronicDeferral(task);
+                }
+                continue;
+            }
+
+            task.deferrals = 0;
+            // Tick based tasks are due at the time the tick they were due started
+            task.dueMillis = dueTask.ticks ? now - (this.counter - dueTask.due) * SpongeScheduler.TICK_DURATION : dueTask.due;
+            long taskStart = this.nanoTime();
+            task.setState(ScheduledTask.ScheduledTaskState.SWITCHING);
+            task.setTimestamp(this.getTimestamp(task));
+            startTask(task);
+            if (budget > 0 && this.nanoTime() - taskStart > budget) {
+                this.overruns++;
+            }
+            // If task is one time shot, remove it from the map.
+            if (task.period == 0L) {
+                this.removeTask(task);
+            } else {
+                schedule(task);
+            }
+        }
+
+        // Deferred tasks keep their due tick or time, so they come first next tick
+        for (DueTask deferredTask : deferred) {
+            (deferredTask.ticks ? this.tickQueue : this.timeQueue).add(deferredTask);
+        }
+    }
+
+    private void schedule(ScheduledTask task) {
+        if (task.getState() == ScheduledTask.ScheduledTaskState.WAITING) {
+            add(task.delayIsTicks, task.getTimestamp() + task.offset, task);
+        } else {
+            add(task.intervalIsTicks, task.getTimestamp() + task.period, task);
+        }
+    }
+
+    private void add(boolean ticks, long due, ScheduledTask task) {
+        (ticks ? this.tickQueue : this.timeQueue).add(new DueTask(ticks, due, task));
+    }
+
+    /**
+     * Polls the due task that is the most overdue, comparing tick based and
+     * time based tasks by the time they have been waiting.
+     *
+     * @param now The current time in milliseconds
+     * @return The next due task, or null if none is due
+     */
+    private DueTask pollDueTask(long now) {
+        DueTask tickTask = this.tickQueue.peek();
+        if (tickTask != null && tickTask.due > this.counter) {
+            tickTask = null;
+        }
+        DueTask timeTask = this.timeQueue.peek();
+        if (timeTask != null && timeTask.due > now) {
+            timeTask = null;
+        }
+        if (tickTask == null) {
+            return timeTask == null ? null : this.timeQueue.poll();
+        }
+        if (timeTask == null || (this.counter - tickTask.due) * SpongeScheduler.TICK_DURATION >= now - timeTask.due) {
+            return this.tickQueue.poll();
+        }
+        return this.timeQueue.poll();
+    }
+
+    /**
+     * Gets the time in nanoseconds that tasks may run for each tick.
+     *
+     * @return The tick budget, or 0 if the run time is not limited
+     */
+    long getTickBudget() {
+        return TimeUnit.MILLISECONDS.toNanos(Sponge.getGlobalConfig().getConfig().getScheduler().getSyncTickBudget());
+    }
+
+    /**
+     * Gets the number of ticks after which a deferred task is counted as
+     * chronically deferred.
+     *
+     * @return The number of ticks
+     */
+    int getChronicDeferralTicks() {
+        return Sponge.getGlobalConfig().getConfig().getScheduler().getChronicDeferralTicks();
+    }
+
+    long nanoTime() {
+        return System.nanoTime();
+    }
+
+    void logChronicDeferral(ScheduledTask task) {
+        Sponge.getLogger().debug("The task {} owned by {} was deferred for {} ticks.", task.getName(), task.getOwner(), task.deferrals);
+    }
+
+    MainThreadExecutor getMainThreadExecutor() {
+        return this.mainThreadExecutor;
+    }
+
+    long getDeferrals() {
+        return this.deferrals;
+    }
+
+    long getChronicDeferrals() {
+        return this.chronicDeferrals;
+    }
+
+    long getOverruns() {
+        return this.overruns;
+    }
+
+    @Override
+    protected void executeTaskRunnable(ScheduledTask task, Runnable runnable) {
         runnable.run();
     }
 
+    private static final class DueTask implements Comparable<DueTask> {
+
+        // Whether the task is due at a tick or at a time in milliseconds
+        final boolean ticks;
+        final long due;
+        final ScheduledTask task;
+
+        DueTask(boolean ticks, long due, ScheduledTask task) {
+            this.ticks = ticks;
+            this.due = due;
+            this.task = task;
+        }
+
+        @Override
+        public int compareTo(DueTask other) {
+            return Long.compare(this.due, other.due);
+        }
+
+    }
+
 }
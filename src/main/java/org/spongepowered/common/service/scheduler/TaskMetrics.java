@@ -0,0 +1,71 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+/**
+ * The execution metrics of a single {@link ScheduledTask}.
+ */
+public final class TaskMetrics {
+
+    private long executions;
+    private long totalRunNanos;
+    private long maxRunNanos;
+    private long totalLatenessMillis;
+    private long maxLatenessMillis;
+
+    synchronized void record(long latenessMillis, long runNanos) {
+        this.executions++;
+        this.totalRunNanos += runNanos;
+        this.maxRunNanos = Math.max(this.maxRunNanos, runNanos);
+        this.totalLatenessMillis += latenessMillis;
+        this.maxLatenessMillis = Math.max(this.maxLatenessMillis, latenessMillis);
+    }
+
+    public synchronized long getExecutions() {
+        return this.executions;
+    }
+
+    public synchronized long getTotalRunNanos() {
+        return this.totalRunNanos;
+    }
+
+    public synchronized long getMaxRunNanos() {
+        return this.maxRunNanos;
+    }
+
+    /**
+     * Gets the total time in milliseconds the task started after it was due.
+     *
+     * @return The total lateness
+     */
+    public synchronized long getTotalLatenessMillis() {
+        return this.totalLatenessMillis;
+    }
+
+    public synchronized long getMaxLatenessMillis() {
+        return this.maxLatenessMillis;
+    }
+
+}
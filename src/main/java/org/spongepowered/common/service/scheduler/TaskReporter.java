@@ -0,0 +1,168 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import com.google.common.collect.Lists;
+import org.spongepowered.api.plugin.PluginContainer;
+import org.spongepowered.common.Sponge;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Collects the run time of the scheduler tasks of each plugin and
+ * periodically logs the plugins whose tasks took the most time.
+ */
+final class TaskReporter {
+
+    private final ConcurrentMap<PluginContainer, PluginEntry> entries = new ConcurrentHashMap<>();
+    private volatile boolean enabled;
+
+    /**
+     * Sets whether task run times are recorded. Recorded run times are
+     * dropped when reporting is disabled.
+     *
+     * @param enabled Whether reporting is enabled
+     */
+    void setEnabled(boolean enabled) {
+        if (this.enabled && !enabled) {
+            this.entries.clear();
+        }
+        this.enabled = enabled;
+    }
+
+    /**
+     * Gets whether task run times are recorded, that is whether a report
+     * interval is configured.
+     *
+     * @return Whether reporting is enabled
+     */
+    boolean isEnabled() {
+        return this.enabled;
+    }
+
+    void record(ScheduledTask task, long latenessMillis, long runNanos) {
+        if (!this.enabled) {
+            return;
+        }
+        this.entries.computeIfAbsent(task.getOwner(), PluginEntry::new).record(task, latenessMillis, runNanos);
+    }
+
+    /**
+     * Logs the plugins with the highest task run time since the last report
+     * and starts a new report.
+     *
+     * @param seconds The number of seconds covered by the report
+     * @param count The maximum number of plugins to log
+     */
+    void report(int seconds, int count) {
+        List<Snapshot> report = Lists.newArrayList();
+        for (PluginEntry entry : this.entries.values()) {
+            // Entries are reset in place, so samples recorded meanwhile count towards the next report
+            Snapshot snapshot = entry.snapshotAndReset();
+            if (snapshot != null) {
+                report.add(snapshot);
+            }
+        }
+        if (report.isEmpty()) {
+            return;
+        }
+        report.sort((a, b) -> Long.compare(b.totalRunNanos, a.totalRunNanos));
+
+        Sponge.getLogger().info("Scheduler tasks of the last {} seconds with the highest run time:", seconds);
+        for (Snapshot snapshot : report.subList(0, Math.min(count, report.size()))) {
+            Sponge.getLogger().info("  {}: {} runs, {} ms total, slowest {} ({} ms), max lateness {} ms", snapshot.plugin.getId(),
+                    snapshot.executions, TimeUnit.NANOSECONDS.toMillis(snapshot.totalRunNanos), snapshot.slowestTask,
+                    TimeUnit.NANOSECONDS.toMillis(snapshot.maxRunNanos), snapshot.maxLatenessMillis);
+        }
+    }
+
+    private static final class PluginEntry {
+
+        final PluginContainer plugin;
+        long executions;
+        long totalRunNanos;
+        long maxRunNanos;
+        String slowestTask;
+        long maxLatenessMillis;
+
+        PluginEntry(PluginContainer plugin) {
+            this.plugin = plugin;
+        }
+
+        synchronized void record(ScheduledTask task, long latenessMillis, long runNanos) {
+            this.executions++;
+            this.totalRunNanos += runNanos;
+            if (runNanos >= this.maxRunNanos) {
+                this.maxRunNanos = runNanos;
+                this.slowestTask = task.getName();
+            }
+            this.maxLatenessMillis = Math.max(this.maxLatenessMillis, latenessMillis);
+        }
+
+        /**
+         * Copies the recorded values and resets them.
+         *
+         * @return The recorded values, or null if no task ran
+         */
+        synchronized Snapshot snapshotAndReset() {
+            if (this.executions == 0) {
+                return null;
+            }
+            Snapshot snapshot = new Snapshot(this.plugin, this.executions, this.totalRunNanos, this.maxRunNanos, this.slowestTask,
+                    this.maxLatenessMillis);
+            this.executions = 0;
+            this.totalRunNanos = 0;
+            this.maxRunNanos = 0;
+            this.slowestTask = null;
+            this.maxLatenessMillis = 0;
+            return snapshot;
+        }
+
+    }
+
+    private static final class Snapshot {
+
+        final PluginContainer plugin;
+        final long executions;
+        final long totalRunNanos;
+        final long maxRunNanos;
+        final String slowestTask;
+        final long maxLatenessMillis;
+
+        Snapshot(PluginContainer plugin, long executions, long totalRunNanos, long maxRunNanos, String slowestTask, long maxLatenessMillis) {
+            this.plugin = plugin;
+            this.executions = executions;
+            this.totalRunNanos = totalRunNanos;
+            this.maxRunNanos = maxRunNanos;
+            this.slowestTask = slowestTask;
+            this.maxLatenessMillis = maxLatenessMillis;
+        }
+
+    }
+
+}
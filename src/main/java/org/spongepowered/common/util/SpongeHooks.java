@@ -396,6 +396,24 @@ public static SpongeConfig<?> getActiveConfig(World world) {
         }
     }
 
+    /**
+     * Gets a number that changes each time any of the configs that
+     * {@link #getActiveConfig(World)} chooses from is reloaded or changed, so
+     * values resolved from the active config can be cached.
+     *
+     * @param world The world
+     * @return The combined revision of the configs of the world
+     */
+    public static int getConfigRevision(World world) {
+        // Revisions only increase, so their sum changes whenever one of them does
+        int revision = ((IMixinWorld) world).getWorldConfig().getRevision() + Sponge.getGlobalConfig().getRevision();
+        SpongeConfig<?> dimensionConfig = ((IMixinWorldProvider) world.provider).getDimensionConfig();
+        if (dimensionConfig != null) {
+            revision += dimensionConfig.getRevision();
+        }
+        return revision;
+    }
+
     public static void setBlockState(World world, int x, int y, int z, BlockState state) {
         setBlockState(world, new BlockPos(x, y, z), state);
     }
@@ -0,0 +1,216 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.world.ChunkCoordIntPair;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Records the time spent ticking entities, tile entities and blocks of a
+ * world, attributed to the chunk they are in. Timings are kept in a rolling
+ * window of {@link #WINDOW_SECONDS} seconds, split into buckets so that old
+ * samples expire without having to remember each of them.
+ *
+ * <p>Each world owns one instance, which is only accessed from the thread
+ * that ticks the world.</p>
+ */
+public final class ChunkTickTimings {
+
+    public static final int ENTITY = 0;
+    public static final int TILE_ENTITY = 1;
+    public static final int BLOCK = 2;
+    private static final int CATEGORY_COUNT = 3;
+
+    private static final int BUCKET_TICKS = 100;
+    private static final int BUCKET_COUNT = 12;
+    public static final int WINDOW_SECONDS = BUCKET_TICKS * BUCKET_COUNT / 20;
+
+    private static volatile boolean enabled;
+
+    /**
+     * The timings of a single chunk over the current window.
+     */
+    public static final class Entry {
+
+        private final int chunkX;
+        private final int chunkZ;
+        private final long[] bucketIds = new long[BUCKET_COUNT];
+        private final long[] nanos = new long[BUCKET_COUNT * CATEGORY_COUNT];
+        private final long[] counts = new long[BUCKET_COUNT * CATEGORY_COUNT];
+
+        Entry(int chunkX, int chunkZ) {
+            this.chunkX = chunkX;
+            this.chunkZ = chunkZ;
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                this.bucketIds[i] = -1;
+            }
+        }
+
+        void record(long bucket, int category, long nanos) {
+            int index = (int) (bucket % BUCKET_COUNT);
+            if (this.bucketIds[index] != bucket) {
+                this.bucketIds[index] = bucket;
+                for (int i = 0; i < CATEGORY_COUNT; i++) {
+                    this.nanos[index * CATEGORY_COUNT + i] = 0;
+                    this.counts[index * CATEGORY_COUNT + i] = 0;
+                }
+            }
+            this.nanos[index * CATEGORY_COUNT + category] += nanos;
+            this.counts[index * CATEGORY_COUNT + category]++;
+        }
+
+        boolean isStale(long bucket) {
+            for (long bucketId : this.bucketIds) {
+                if (bucketId > bucket - BUCKET_COUNT) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        Entry snapshot(long bucket) {
+            Entry snapshot = new Entry(this.chunkX, this.chunkZ);
+            for (int i = 0; i < BUCKET_COUNT; i++) {
+                if (this.bucketIds[i] > bucket - BUCKET_COUNT) {
+                    for (int category = 0; category < CATEGORY_COUNT; category++) {
+                        snapshot.nanos[category] += this.nanos[i * CATEGORY_COUNT + category];
+                        snapshot.counts[category] += this.counts[i * CATEGORY_COUNT + category];
+                    }
+                }
+            }
+            return snapshot;
+        }
+
+        public int getChunkX() {
+            return this.chunkX;
+        }
+
+        public int getChunkZ() {
+            return this.chunkZ;
+        }
+
+        /**
+         * Gets the time spent on a category within the window. Only valid
+         * for entries returned by {@link ChunkTickTimings#collect(long)}.
+         *
+         * @param category The category
+         * @return The time in nanoseconds
+         */
+        public long getNanos(int category) {
+            return this.nanos[category];
+        }
+
+        /**
+         * Gets the number of updates of a category within the window. Only
+         * valid for entries returned by {@link ChunkTickTimings#collect(long)}.
+         *
+         * @param category The category
+         * @return The number of updates
+         */
+        public long getCount(int category) {
+            return this.counts[category];
+        }
+
+        public long getTotalNanos() {
+            return this.nanos[ENTITY] + this.nanos[TILE_ENTITY] + this.nanos[BLOCK];
+        }
+    }
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private long lastPrunedBucket;
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    public static void setEnabled(boolean enabled) {
+        ChunkTickTimings.enabled = enabled;
+    }
+
+    /**
+     * Records time spent ticking something in a chunk.
+     *
+     * @param tick The current server tick
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @param category The category, one of {@link #ENTITY},
+     *     {@link #TILE_ENTITY} or {@link #BLOCK}
+     * @param nanos The time spent, in nanoseconds
+     */
+    public void record(long tick, int chunkX, int chunkZ, int category, long nanos) {
+        long bucket = tick / BUCKET_TICKS;
+        if (bucket != this.lastPrunedBucket) {
+            this.lastPrunedBucket = bucket;
+            prune(bucket);
+        }
+        long key = ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ);
+        Entry entry = this.entries.get(key);
+        if (entry == null) {
+            entry = new Entry(chunkX, chunkZ);
+            this.entries.put(key, entry);
+        }
+        entry.record(bucket, category, nanos);
+    }
+
+    /**
+     * Collects the timings of all chunks within the window ending at the
+     * given tick, sorted by total time spent, most first.
+     *
+     * @param tick The current server tick
+     * @return The timing entries
+     */
+    public List<Entry> collect(long tick) {
+        long bucket = tick / BUCKET_TICKS;
+        List<Entry> result = new ArrayList<>(this.entries.size());
+        for (Entry entry : this.entries.values()) {
+            Entry snapshot = entry.snapshot(bucket);
+            if (snapshot.getTotalNanos() > 0) {
+                result.add(snapshot);
+            }
+        }
+        Collections.sort(result, Comparator.comparingLong(Entry::getTotalNanos).reversed());
+        return result;
+    }
+
+    public void reset() {
+        this.entries.clear();
+    }
+
+    private void prune(long bucket) {
+        for (Iterator<Entry> iterator = this.entries.values().iterator(); iterator.hasNext();) {
+            if (iterator.next().isStale(bucket)) {
+                iterator.remove();
+            }
+        }
+    }
+
+}
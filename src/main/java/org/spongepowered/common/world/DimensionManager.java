@@ -194,19 +194,31 @@ public static boolean unloadWorldFromDimId(int id) {
         if (((org.spongepowered.api.world.World) world).doesKeepSpawnLoaded()) {
             return false;
         }
-        unloadQueue.add(id);
+        if (ParallelWorldTicker.isWorldPhase()) {
+            ParallelWorldTicker.defer(() -> unloadQueue.add(id));
+        } else {
+            unloadQueue.add(id);
+        }
         return true;
     }
 
     public static void setWorld(int id, WorldServer world) {
+        if (ParallelWorldTicker.isWorldPhase()) {
+            // Worlds cannot be added or removed while their entities are tracked in parallel
+            ParallelWorldTicker.defer(() -> setWorld(id, world));
+            return;
+        }
         if (world != null) {
             worlds.put(id, world);
             weakWorldMap.put(world, world);
             ((IMixinMinecraftServer) MinecraftServer.getServer()).getWorldTickTimes().put(id, new long[100]);
             Sponge.getLogger().info("Loading dimension {} ({}) ({})", id, world.getWorldInfo().getWorldName(), world.getMinecraftServer());
         } else {
-            worlds.remove(id);
+            WorldServer removed = worlds.remove(id);
             ((IMixinMinecraftServer) MinecraftServer.getServer()).getWorldTickTimes().remove(id);
+            if (removed != null) {
+                Sponge.getEventManager().onWorldUnload(((org.spongepowered.api.world.World) removed).getUniqueId());
+            }
             Sponge.getLogger().info("Unloading dimension {}", id);
         }
 
@@ -279,6 +291,10 @@ public static File getCurrentSaveRootDirectory() {
     }
 
     public static void initDimension(int dim) {
+        if (ParallelWorldTicker.isWorldPhase()) {
+            ParallelWorldTicker.defer(() -> initDimension(dim));
+            return;
+        }
         WorldServer overworld = getWorldFromDimId(0);
         if (overworld == null) {
             throw new RuntimeException("Cannot Hotload Dim: Overworld is not Loaded!");
@@ -0,0 +1,285 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.crash.CrashReport;
+import net.minecraft.entity.Entity;
+import net.minecraft.entity.EntityTracker;
+import net.minecraft.entity.player.EntityPlayerMP;
+import net.minecraft.server.MinecraftServer;
+import net.minecraft.server.management.ServerConfigurationManager;
+import net.minecraft.util.ReportedException;
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.storage.MapStorage;
+import org.spongepowered.api.world.Location;
+import org.spongepowered.api.world.World;
+import org.spongepowered.common.Sponge;
+import org.spongepowered.common.interfaces.entity.IMixinEntityTracker;
+import org.spongepowered.common.util.SpongeHooks;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Updates the entity trackers of worlds in parallel on a fixed pool when
+ * enabled in the global configuration.
+ *
+ * <p>Block and entity updates stay on the main thread, one world after
+ * another. They use global state of vanilla, such as the entity id counter
+ * and the fields of the shared block instances, and event listeners rely on
+ * their results. Tracking entities only reads the entities of its own world
+ * and sends packets to the players in it, so the main thread queues the
+ * trackers in the world loop and updates all of them together at a barrier
+ * after the loop, before connections are handled. Worlds sharing a map
+ * storage, which item frames holding maps update, are tracked one after
+ * another.</p>
+ *
+ * <p>Events fired while entities are tracked in parallel are queued and
+ * posted on the main thread at the barrier, so listeners never run during
+ * the parallel phase and cannot cancel those events. Operations that touch
+ * more than one world, such as teleports between worlds, respawning players
+ * and loading or unloading worlds, are deferred to the barrier as well. Sync
+ * tasks of the scheduler only run outside of the parallel phase.</p>
+ *
+ * <p>The trackers of worlds with {@code coupled-tick} enabled are updated
+ * on the main thread as before.</p>
+ */
+public final class ParallelWorldTicker {
+
+    private static final Queue<Runnable> deferred = new ConcurrentLinkedQueue<>();
+    // The trackers to update at the barrier, grouped by the map storage of their world
+    private static final Map<MapStorage, List<EntityTracker>> pending = new IdentityHashMap<>();
+    private static volatile boolean worldPhase;
+    private static ExecutorService executor;
+
+    /**
+     * Queues the update of an entity tracker for the barrier if it may be
+     * updated in parallel. Called by the main thread in place of
+     * {@link EntityTracker#updateTrackedEntities()}.
+     *
+     * @param tracker The entity tracker
+     * @return True if the tracker is updated at the barrier, false if the
+     *     caller has to update it
+     */
+    public static boolean submit(EntityTracker tracker) {
+        WorldServer world = ((IMixinEntityTracker) tracker).getWorld();
+        if (!canTrackInParallel(world)) {
+            return false;
+        }
+        List<EntityTracker> group = pending.get(world.getMapStorage());
+        if (group == null) {
+            group = new ArrayList<>();
+            pending.put(world.getMapStorage(), group);
+        }
+        group.add(tracker);
+        return true;
+    }
+
+    /**
+     * Updates the queued entity trackers in parallel, waits for all of them
+     * and runs the events and operations that were deferred meanwhile.
+     * Called by the main thread after the world loop.
+     */
+    public static void await() {
+        if (pending.isEmpty()) {
+            return;
+        }
+        List<CompletableFuture<Void>> futures = new ArrayList<>(pending.size());
+        worldPhase = true;
+        try {
+            for (List<EntityTracker> group : pending.values()) {
+                futures.add(CompletableFuture.runAsync(() -> updateTrackers(group), getExecutor()));
+            }
+        } finally {
+            pending.clear();
+        }
+
+        ReportedException failure = null;
+        for (CompletableFuture<Void> future : futures) {
+            try {
+                future.join();
+            } catch (CompletionException e) {
+                if (failure == null) {
+                    failure = (ReportedException) e.getCause();
+                }
+            }
+        }
+        worldPhase = false;
+
+        Runnable task;
+        while ((task = deferred.poll()) != null) {
+            try {
+                task.run();
+            } catch (Throwable t) {
+                Sponge.getLogger().error("Could not run an operation deferred by parallel world ticking", t);
+            }
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+    }
+
+    private static void updateTrackers(List<EntityTracker> trackers) {
+        for (EntityTracker tracker : trackers) {
+            try {
+                tracker.updateTrackedEntities();
+            } catch (Throwable t) {
+                CrashReport report = CrashReport.makeCrashReport(t, "Exception tracking world entities");
+                ((IMixinEntityTracker) tracker).getWorld().addWorldInfoToCrashReport(report);
+                throw new ReportedException(report);
+            }
+        }
+    }
+
+    /**
+     * Checks whether entity trackers are currently being updated in
+     * parallel.
+     *
+     * @return True during the parallel phase
+     */
+    public static boolean isWorldPhase() {
+        return worldPhase;
+    }
+
+    /**
+     * Checks whether the current thread updates entity trackers in parallel,
+     * in which case events have to be queued for the barrier.
+     *
+     * @return True on a thread of the pool
+     */
+    public static boolean isWorldTickThread() {
+        return Thread.currentThread() instanceof WorldTickThread;
+    }
+
+    /**
+     * Runs an operation on the main thread once all entity trackers were
+     * updated.
+     *
+     * @param task The operation
+     */
+    public static void defer(Runnable task) {
+        deferred.add(task);
+    }
+
+    /**
+     * Defers a dimension change of an entity if it is requested while
+     * entities are tracked in parallel.
+     *
+     * @param entity The entity
+     * @param dimensionId The target dimension
+     * @return True if the dimension change was deferred
+     */
+    public static boolean deferTravelToDimension(Entity entity, int dimensionId) {
+        if (!worldPhase) {
+            return false;
+        }
+        defer(() -> entity.travelToDimension(dimensionId));
+        return true;
+    }
+
+    /**
+     * Defers moving an entity to another world if it is requested while
+     * entities are tracked in parallel.
+     *
+     * @param entity The entity
+     * @param location The target location
+     * @param forced Whether the location is used without checking it is safe
+     * @return True if the move was deferred
+     */
+    public static boolean deferSetLocation(org.spongepowered.api.entity.Entity entity, Location<World> location, boolean forced) {
+        if (!worldPhase || location.getExtent().equals(entity.getWorld())) {
+            return false;
+        }
+        defer(() -> entity.setLocation(location, forced));
+        return true;
+    }
+
+    /**
+     * Defers respawning a player if it is requested while entities are
+     * tracked in parallel.
+     *
+     * @param manager The configuration manager respawning the player
+     * @param player The player
+     * @param dimensionId The dimension to respawn in
+     * @param conqueredEnd Whether the player leaves the end
+     * @return True if the respawn was deferred
+     */
+    public static boolean deferRecreatePlayerEntity(ServerConfigurationManager manager, EntityPlayerMP player, int dimensionId,
+            boolean conqueredEnd) {
+        if (!worldPhase) {
+            return false;
+        }
+        defer(() -> manager.recreatePlayerEntity(player, dimensionId, conqueredEnd));
+        return true;
+    }
+
+    private static boolean canTrackInParallel(WorldServer world) {
+        if (!Sponge.getGlobalConfig().getConfig().getWorldTick().isParallel()) {
+            return false;
+        }
+        // The profiler is shared by all worlds and cannot be used concurrently
+        if (MinecraftServer.getServer().theProfiler.profilingEnabled) {
+            return false;
+        }
+        return !SpongeHooks.getActiveConfig(world).getConfig().getWorld().isCoupledTick();
+    }
+
+    private static ExecutorService getExecutor() {
+        if (executor == null) {
+            int threads = Sponge.getGlobalConfig().getConfig().getWorldTick().getParallelThreads();
+            if (threads <= 0) {
+                threads = Runtime.getRuntime().availableProcessors();
+            }
+            executor = Executors.newFixedThreadPool(threads, new ThreadFactoryBuilder()
+                    .setNameFormat("Sponge World Tick Thread #%d")
+                    .setDaemon(true)
+                    .setThreadFactory(WorldTickThread::new)
+                    .build());
+        }
+        return executor;
+    }
+
+    private ParallelWorldTicker() {
+    }
+
+    private static final class WorldTickThread extends Thread {
+
+        WorldTickThread(Runnable target) {
+            super(target);
+        }
+
+    }
+
+}
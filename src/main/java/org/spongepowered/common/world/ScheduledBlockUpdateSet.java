@@ -0,0 +1,143 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
+import com.google.common.collect.Maps;
+import com.google.common.collect.Sets;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.NextTickListEntry;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The set of pending scheduled block updates of a world, which additionally
+ * indexes the updates by block position and by chunk. Vanilla adds and
+ * removes every pending update through this set, so the indexes stay in
+ * sync with the tree set of pending updates.
+ */
+public class ScheduledBlockUpdateSet extends HashSet<NextTickListEntry> {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Map<Long, List<NextTickListEntry>> byPosition = Maps.newHashMap();
+    private final Map<Long, Set<NextTickListEntry>> byChunk = Maps.newHashMap();
+
+    @Override
+    public boolean add(NextTickListEntry entry) {
+        if (!super.add(entry)) {
+            return false;
+        }
+        this.byPosition.computeIfAbsent(entry.position.toLong(), key -> Lists.newArrayListWithCapacity(1)).add(entry);
+        this.byChunk.computeIfAbsent(chunkKey(entry.position), key -> Sets.newHashSet()).add(entry);
+        return true;
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (!super.remove(o)) {
+            return false;
+        }
+        NextTickListEntry entry = (NextTickListEntry) o;
+        removeFromIndex(this.byPosition, entry.position.toLong(), entry);
+        removeFromIndex(this.byChunk, chunkKey(entry.position), entry);
+        return true;
+    }
+
+    @Override
+    public void clear() {
+        super.clear();
+        this.byPosition.clear();
+        this.byChunk.clear();
+    }
+
+    @Override
+    public Iterator<NextTickListEntry> iterator() {
+        final Iterator<NextTickListEntry> iterator = super.iterator();
+        return new Iterator<NextTickListEntry>() {
+
+            private NextTickListEntry current;
+
+            @Override
+            public boolean hasNext() {
+                return iterator.hasNext();
+            }
+
+            @Override
+            public NextTickListEntry next() {
+                return this.current = iterator.next();
+            }
+
+            @Override
+            public void remove() {
+                iterator.remove();
+                removeFromIndex(ScheduledBlockUpdateSet.this.byPosition, this.current.position.toLong(), this.current);
+                removeFromIndex(ScheduledBlockUpdateSet.this.byChunk, chunkKey(this.current.position), this.current);
+            }
+        };
+    }
+
+    /**
+     * Gets the pending updates at a block position.
+     *
+     * @param position The block position
+     * @return The pending updates
+     */
+    public List<NextTickListEntry> getUpdates(BlockPos position) {
+        List<NextTickListEntry> entries = this.byPosition.get(position.toLong());
+        return entries == null ? ImmutableList.<NextTickListEntry>of() : ImmutableList.copyOf(entries);
+    }
+
+    /**
+     * Gets the pending updates within a chunk.
+     *
+     * @param chunkX The chunk x coordinate
+     * @param chunkZ The chunk z coordinate
+     * @return The pending updates
+     */
+    public List<NextTickListEntry> getUpdatesInChunk(int chunkX, int chunkZ) {
+        Set<NextTickListEntry> entries = this.byChunk.get(ChunkCoordIntPair.chunkXZ2Int(chunkX, chunkZ));
+        return entries == null ? ImmutableList.<NextTickListEntry>of() : ImmutableList.copyOf(entries);
+    }
+
+    private static long chunkKey(BlockPos position) {
+        return ChunkCoordIntPair.chunkXZ2Int(position.getX() >> 4, position.getZ() >> 4);
+    }
+
+    private static void removeFromIndex(Map<Long, ? extends Collection<NextTickListEntry>> index, long key, NextTickListEntry entry) {
+        Collection<NextTickListEntry> entries = index.get(key);
+        if (entries != null && entries.remove(entry) && entries.isEmpty()) {
+            index.remove(key);
+        }
+    }
+
+}
@@ -0,0 +1,79 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import net.minecraft.server.gui.IUpdatePlayerListBox;
+import net.minecraft.tileentity.TileEntity;
+import org.spongepowered.common.interfaces.block.tile.IMixinTileEntity;
+
+/**
+ * Dispatches tile entity updates according to the tick interval configured
+ * for their type. A tile entity with an interval of {@code n} is updated on
+ * every {@code n}th world tick, with the phase derived from its position so
+ * that large groups of the same type are spread over all ticks instead of
+ * updating together.
+ */
+public final class TileEntityTickThrottle {
+
+    /**
+     * Updates the given tile entity if it is due this tick.
+     *
+     * @param tickable The tile entity to update
+     */
+    public static void update(IUpdatePlayerListBox tickable) {
+        if (!(tickable instanceof TileEntity)) {
+            tickable.update();
+            return;
+        }
+        TileEntity tileEntity = (TileEntity) tickable;
+        if (!shouldUpdate(tileEntity)) {
+            return;
+        }
+        // Changes a tile entity makes to itself while updating do not warrant an extra tick
+        ((IMixinTileEntity) tileEntity).setTicking(true);
+        try {
+            tickable.update();
+        } finally {
+            ((IMixinTileEntity) tileEntity).setTicking(false);
+        }
+    }
+
+    private static boolean shouldUpdate(TileEntity tileEntity) {
+        IMixinTileEntity mixinTileEntity = (IMixinTileEntity) tileEntity;
+        if (mixinTileEntity.consumeImmediateTick()) {
+            return true;
+        }
+        int interval = mixinTileEntity.getTickInterval();
+        if (interval <= 1) {
+            return true;
+        }
+        long phase = (tileEntity.getPos().toLong() & Long.MAX_VALUE) % interval;
+        return (tileEntity.getWorld().getTotalWorldTime() % interval + phase) % interval == 0;
+    }
+
+    private TileEntityTickThrottle() {
+    }
+
+}
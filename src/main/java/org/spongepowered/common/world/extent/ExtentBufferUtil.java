@@ -27,12 +27,19 @@
 import com.flowpowered.math.vector.Vector2i;
 import com.flowpowered.math.vector.Vector3i;
 import net.minecraft.block.Block;
+import net.minecraft.world.World;
+import net.minecraft.world.WorldType;
 import net.minecraft.world.biome.BiomeGenBase;
+import net.minecraft.world.chunk.Chunk;
+import net.minecraft.world.chunk.storage.ExtendedBlockStorage;
 import org.spongepowered.api.world.extent.BiomeArea;
 import org.spongepowered.api.world.extent.BlockVolume;
 
 public class ExtentBufferUtil {
 
+    // Horizontal limit of World#isValid, outside of which every block is air
+    private static final int WORLD_XZ_LIMIT = 30000000;
+
     public static byte[] copyToArray(BiomeArea area, Vector2i min, Vector2i max, Vector2i size) {
         // Check if the area has more biomes than can be stored in an array
         final long memory = (long) size.getX() * (long) size.getY();
@@ -58,6 +65,15 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
             throw new OutOfMemoryError("Cannot copy the blocks to an array because the size limit was reached");
         }
         final short[] copy = new short[(int) memory];
+        final BlockVolume backing = getBackingVolume(volume);
+        if (backing instanceof World && ((World) backing).getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromWorld((World) backing, copy, min, max, size);
+            return copy;
+        }
+        if (backing instanceof Chunk && ((Chunk) backing).getWorld().getWorldType() != WorldType.DEBUG_WORLD) {
+            copyFromChunk((Chunk) backing, copy, min, max, size);
+            return copy;
+        }
         int i = 0;
         for (int x = min.getX(); x <= max.getX(); x++) {
             for (int z = min.getZ(); z <= max.getZ(); z++) {
@@ -69,4 +85,74 @@ public static short[] copyToArray(BlockVolume volume, Vector3i min, Vector3i max
         return copy;
     }
 
+    /**
+     * Unwraps views that only narrow the bounds of another volume, since any
+     * position inside them reads the same block from the volume they wrap.
+     */
+    private static BlockVolume getBackingVolume(BlockVolume volume) {
+        while (true) {
+            if (volume instanceof AbstractBlockViewDownsize) {
+                volume = ((AbstractBlockViewDownsize<?>) volume).volume;
+            } else if (volume instanceof ExtentViewDownsize) {
+                volume = ((ExtentViewDownsize) (Object) volume).getBackingExtent();
+            } else {
+                return volume;
+            }
+        }
+    }
+
+    private static void copyFromWorld(World world, short[] copy, Vector3i min, Vector3i max, Vector3i size) {
+        final int minX = Math.max(min.getX(), -WORLD_XZ_LIMIT);
+        final int maxX = Math.min(max.getX(), WORLD_XZ_LIMIT - 1);
+        final int minZ = Math.max(min.getZ(), -WORLD_XZ_LIMIT);
+        final int maxZ = Math.min(max.getZ(), WORLD_XZ_LIMIT - 1);
+        for (int chunkX = minX >> 4; chunkX <= maxX >> 4; chunkX++) {
+            for (int chunkZ = minZ >> 4; chunkZ <= maxZ >> 4; chunkZ++) {
+                copyFromChunk(world.getChunkFromChunkCoords(chunkX, chunkZ), copy, min, max, size);
+            }
+        }
+    }
+
+    /**
+     * Copies the part of the chunk that lies within the bounds straight from
+     * the state ids of its sections. Missing sections are left as air, which
+     * has the id 0.
+     */
+    private static void copyFromChunk(Chunk chunk, short[] copy, Vector3i min, Vector3i max, Vector3i size) {
+        final int chunkMinX = chunk.xPosition << 4;
+        final int chunkMinZ = chunk.zPosition << 4;
+        final int minX = Math.max(min.getX(), Math.max(chunkMinX, -WORLD_XZ_LIMIT));
+        final int maxX = Math.min(max.getX(), Math.min(chunkMinX + 15, WORLD_XZ_LIMIT - 1));
+        final int minZ = Math.max(min.getZ(), Math.max(chunkMinZ, -WORLD_XZ_LIMIT));
+        final int maxZ = Math.min(max.getZ(), Math.min(chunkMinZ + 15, WORLD_XZ_LIMIT - 1));
+        final int minY = Math.max(min.getY(), 0);
+        final int maxY = Math.min(max.getY(), 255);
+        if (minX > maxX || minZ > maxZ || minY > maxY) {
+            return;
+        }
+        final int yLine = size.getY();
+        final int yzSlice = size.getY() * size.getZ();
+        final ExtendedBlockStorage[] sections = chunk.getBlockStorageArray();
+        for (int sectionY = minY >> 4; sectionY <= maxY >> 4; sectionY++) {
+            final ExtendedBlockStorage section = sections[sectionY];
+            if (section == null) {
+                continue;
+            }
+            final char[] data = section.getData();
+            final int startY = Math.max(minY, sectionY << 4);
+            final int endY = Math.min(maxY, (sectionY << 4) + 15);
+            for (int x = minX; x <= maxX; x++) {
+                for (int z = minZ; z <= maxZ; z++) {
+                    int i = (x - min.getX()) * yzSlice + (z - min.getZ()) * yLine + (startY - min.getY());
+                    // Sections are indexed as y << 8 | z << 4 | x
+                    int j = (startY & 15) << 8 | (z & 15) << 4 | (x & 15);
+                    for (int y = startY; y <= endY; y++) {
+                        copy[i++] = (short) data[j];
+                        j += 256;
+                    }
+                }
+            }
+        }
+    }
+
 }
@@ -59,4 +59,13 @@ public static Extent newInstance(Extent extent, Vector3i blockMin, Vector3i bloc
         return (Extent) new ExtentViewDownsize(extent, blockMin, blockMax);
     }
 
+    /**
+     * Gets the extent this view was created from.
+     *
+     * @return The backing extent
+     */
+    public Extent getBackingExtent() {
+        return this.extent;
+    }
+
 }
@@ -0,0 +1,100 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.world.WorldServer;
+import net.minecraft.world.gen.ChunkProviderServer;
+import org.spongepowered.api.world.Chunk;
+import org.spongepowered.common.interfaces.IMixinAnvilChunkLoader;
+import org.spongepowered.common.service.scheduler.SpongeScheduler;
+
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Loads chunks without blocking the main thread on disk reads. The chunk
+ * data is read and decompressed on the {@link ChunkIOExecutor}, the chunk is
+ * then constructed on the main thread. Concurrent requests for the same chunk
+ * share a single read.
+ */
+public final class AsyncChunkLoader {
+
+    private AsyncChunkLoader() {
+    }
+
+    /**
+     * Loads a chunk asynchronously. May be called from any thread, the future
+     * completes on the main thread.
+     *
+     * @param world The world of the chunk
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @param shouldGenerate Whether to generate the chunk if it was never saved
+     * @return The chunk, if it is loaded
+     */
+    public static CompletableFuture<Optional<Chunk>> loadChunk(WorldServer world, int x, int z, boolean shouldGenerate) {
+        if (world.isCallingFromMinecraftThread()) {
+            return startLoad(world, x, z, shouldGenerate);
+        }
+        return CompletableFuture.supplyAsync(() -> startLoad(world, x, z, shouldGenerate), mainThread())
+                .thenCompose(future -> future);
+    }
+
+    private static CompletableFuture<Optional<Chunk>> startLoad(WorldServer world, int x, int z, boolean shouldGenerate) {
+        ChunkProviderServer provider = world.theChunkProviderServer;
+        if (provider.chunkExists(x, z) || !(provider.chunkLoader instanceof IMixinAnvilChunkLoader)) {
+            return CompletableFuture.completedFuture(finishLoad(world, x, z, shouldGenerate));
+        }
+        return ((IMixinAnvilChunkLoader) provider.chunkLoader).prefetchChunkData(x, z)
+                .thenApplyAsync(saved -> finishLoad(world, x, z, shouldGenerate || saved), mainThread());
+    }
+
+    private static Optional<Chunk> finishLoad(WorldServer world, int x, int z, boolean load) {
+        ChunkProviderServer provider = world.theChunkProviderServer;
+        if (provider.chunkExists(x, z)) {
+            // Loaded in the meantime, the data that was read is outdated
+            discardPrefetchedChunkData(provider, x, z);
+            return Optional.of((Chunk) provider.provideChunk(x, z));
+        }
+        if (!load) {
+            // Nothing was saved, drop the empty result of the read
+            discardPrefetchedChunkData(provider, x, z);
+            return Optional.empty();
+        }
+        return Optional.ofNullable((Chunk) provider.loadChunk(x, z));
+    }
+
+    private static void discardPrefetchedChunkData(ChunkProviderServer provider, int x, int z) {
+        if (provider.chunkLoader instanceof IMixinAnvilChunkLoader) {
+            ((IMixinAnvilChunkLoader) provider.chunkLoader).discardPrefetchedChunkData(x, z);
+        }
+    }
+
+    private static Executor mainThread() {
+        return SpongeScheduler.getInstance().getMainThreadExecutor();
+    }
+
+}
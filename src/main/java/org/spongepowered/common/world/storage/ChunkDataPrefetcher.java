@@ -0,0 +1,127 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import net.minecraft.nbt.CompressedStreamTools;
+import net.minecraft.nbt.NBTTagCompound;
+import net.minecraft.world.ChunkCoordIntPair;
+import net.minecraft.world.chunk.storage.RegionFileCache;
+import org.spongepowered.common.Sponge;
+
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads the chunk data of a chunk loader on the {@link ChunkIOExecutor},
+ * so that loading the chunk on the main thread only has to construct it.
+ *
+ * <p>Each chunk is only read once while its read is pending. A read is
+ * dropped when the chunk is queued for saving, since the data on disk is
+ * outdated then.</p>
+ */
+public final class ChunkDataPrefetcher {
+
+    private final File saveLocation;
+    private final ConcurrentMap<ChunkCoordIntPair, CompletableFuture<NBTTagCompound>> reads = new ConcurrentHashMap<>();
+
+    public ChunkDataPrefetcher(File saveLocation) {
+        this.saveLocation = saveLocation;
+    }
+
+    /**
+     * Starts to read the data of a chunk, unless it is read already. The
+     * chunk should not be loaded, otherwise the data is never taken.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if the chunk was never saved
+     */
+    public CompletableFuture<NBTTagCompound> prefetch(int x, int z) {
+        return this.reads.computeIfAbsent(new ChunkCoordIntPair(x, z),
+                coords -> CompletableFuture.supplyAsync(() -> read(x, z), ChunkIOExecutor.get()));
+    }
+
+    /**
+     * Starts to read the data of a chunk like {@link #prefetch}.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return Whether the chunk was saved, also true if the read failed so
+     *     that the chunk is read again when it is loaded
+     */
+    public CompletableFuture<Boolean> prefetchExists(int x, int z) {
+        return prefetch(x, z).handle((data, error) -> data != null || error != null);
+    }
+
+    /**
+     * Takes the data of a chunk that was prefetched, waiting for the read if
+     * it is still running.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     * @return The chunk data, or null if it was not prefetched or could not be read
+     */
+    @Nullable
+    public NBTTagCompound take(int x, int z) {
+        CompletableFuture<NBTTagCompound> read = this.reads.remove(new ChunkCoordIntPair(x, z));
+        if (read == null) {
+            return null;
+        }
+        try {
+            return read.join();
+        } catch (CompletionException e) {
+            Sponge.getLogger().error("Failed to read chunk ({}, {}) from {}, it is read again.", x, z, this.saveLocation, e.getCause());
+            return null;
+        }
+    }
+
+    /**
+     * Drops the read of a chunk, if any.
+     *
+     * @param x The chunk x coordinate
+     * @param z The chunk z coordinate
+     */
+    public void invalidate(int x, int z) {
+        this.reads.remove(new ChunkCoordIntPair(x, z));
+    }
+
+    @Nullable
+    private NBTTagCompound read(int x, int z) {
+        try (DataInputStream input = RegionFileCache.getChunkInputStream(this.saveLocation, x, z)) {
+            return input == null ? null : CompressedStreamTools.read(input);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+}
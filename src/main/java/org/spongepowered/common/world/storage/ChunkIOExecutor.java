@@ -0,0 +1,69 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import org.spongepowered.common.Sponge;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * The thread pool reading and decompressing chunk data from region files
+ * ahead of chunk loads on the main thread.
+ */
+public final class ChunkIOExecutor {
+
+    private static volatile ExecutorService executor;
+
+    private ChunkIOExecutor() {
+    }
+
+    /**
+     * Gets the chunk I/O executor, creating it on first use.
+     *
+     * @return The executor
+     */
+    public static Executor get() {
+        ExecutorService executor = ChunkIOExecutor.executor;
+        if (executor == null) {
+            synchronized (ChunkIOExecutor.class) {
+                executor = ChunkIOExecutor.executor;
+                if (executor == null) {
+                    int threads = Sponge.getGlobalConfig().getConfig().getStorage().getChunkIOThreads();
+                    if (threads <= 0) {
+                        threads = Math.max(2, Runtime.getRuntime().availableProcessors() / 2);
+                    }
+                    executor = Executors.newFixedThreadPool(threads,
+                            new ThreadFactoryBuilder().setNameFormat("Sponge Chunk I/O Thread #%d").setDaemon(true).build());
+                    ChunkIOExecutor.executor = executor;
+                }
+            }
+        }
+        return executor;
+    }
+
+}
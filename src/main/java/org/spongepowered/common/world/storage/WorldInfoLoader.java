@@ -0,0 +1,138 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage;
+
+import com.google.common.util.concurrent.Futures;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import net.minecraft.world.WorldProvider;
+import net.minecraft.world.chunk.storage.AnvilSaveHandler;
+import net.minecraft.world.storage.WorldInfo;
+
+import java.io.File;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import javax.annotation.Nullable;
+
+/**
+ * Opens the save handlers and reads the world info of several worlds on a
+ * worker pool. Worlds are still registered and constructed in order on the
+ * main thread, each one waiting only for its own world info.
+ */
+public final class WorldInfoLoader implements AutoCloseable {
+
+    private final ExecutorService executor;
+
+    public WorldInfoLoader(int worlds) {
+        int threads = Math.max(1, Math.min(worlds, Runtime.getRuntime().availableProcessors()));
+        this.executor = Executors.newFixedThreadPool(threads,
+                new ThreadFactoryBuilder().setNameFormat("Sponge World Loader #%d").setDaemon(true).build());
+    }
+
+    /**
+     * Starts to open the save handler of a world, and to read its world info
+     * if requested.
+     *
+     * @param dim The dimension id of the world
+     * @param provider The provider of the world
+     * @param savesDirectory The directory containing the world folder
+     * @param worldFolder The world folder
+     * @param levelName The level name of the world
+     * @param readWorldInfo Whether to read the world info
+     * @return The pending world
+     */
+    public PendingWorld submit(int dim, WorldProvider provider, File savesDirectory, String worldFolder, String levelName,
+            boolean readWorldInfo) {
+        PendingWorld world = new PendingWorld(dim, provider, worldFolder, levelName);
+        world.future = this.executor.submit(() -> {
+            world.saveHandler = new AnvilSaveHandler(savesDirectory, worldFolder, true);
+            if (readWorldInfo) {
+                world.worldInfo = world.saveHandler.loadWorldInfo();
+            }
+        });
+        return world;
+    }
+
+    @Override
+    public void close() {
+        this.executor.shutdown();
+    }
+
+    public static final class PendingWorld {
+
+        private final int dim;
+        private final WorldProvider provider;
+        private final String worldFolder;
+        private final String levelName;
+        private Future<?> future;
+        private AnvilSaveHandler saveHandler;
+        @Nullable private WorldInfo worldInfo;
+
+        PendingWorld(int dim, WorldProvider provider, String worldFolder, String levelName) {
+            this.dim = dim;
+            this.provider = provider;
+            this.worldFolder = worldFolder;
+            this.levelName = levelName;
+        }
+
+        public int getDimensionId() {
+            return this.dim;
+        }
+
+        public WorldProvider getProvider() {
+            return this.provider;
+        }
+
+        public String getWorldFolder() {
+            return this.worldFolder;
+        }
+
+        public String getLevelName() {
+            return this.levelName;
+        }
+
+        /**
+         * Waits until the save handler is open and the world info is read.
+         * Errors thrown on the worker thread are rethrown.
+         */
+        public void join() {
+            Futures.getUnchecked(this.future);
+        }
+
+        public AnvilSaveHandler getSaveHandler() {
+            join();
+            return this.saveHandler;
+        }
+
+        @Nullable
+        public WorldInfo getWorldInfo() {
+            join();
+            return this.worldInfo;
+        }
+
+    }
+
+}
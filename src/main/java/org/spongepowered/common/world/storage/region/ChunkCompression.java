@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import com.google.common.io.ByteStreams;
+import org.spongepowered.common.Sponge;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.FilterOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * A compression codec for the chunks stored in region files. The codec of
+ * each chunk is identified by the type byte in front of its data, so region
+ * files may mix codecs.
+ */
+public abstract class ChunkCompression {
+
+    private static final Map<String, ChunkCompression> byId = new ConcurrentHashMap<>();
+    private static final Map<Byte, ChunkCompression> byType = new ConcurrentHashMap<>();
+    private static volatile boolean warnedUnknown;
+
+    public static final ChunkCompression GZIP = register(new ChunkCompression("gzip", (byte) 1) {
+
+        @Override
+        public InputStream decompress(InputStream input) throws IOException {
+            return new GZIPInputStream(input);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream output) throws IOException {
+            return new GZIPOutputStream(output);
+        }
+    });
+
+    public static final ChunkCompression DEFLATE = register(new ChunkCompression("deflate", (byte) 2) {
+
+        @Override
+        public InputStream decompress(InputStream input) {
+            return new InflaterInputStream(input);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream output) {
+            return new DeflaterOutputStream(output);
+        }
+    });
+
+    // Outside the range of the types used by vanilla
+    public static final ChunkCompression LZ4 = register(new ChunkCompression("lz4", (byte) 100) {
+
+        @Override
+        public InputStream decompress(InputStream input) throws IOException {
+            DataInputStream data = new DataInputStream(input);
+            int length = data.readInt();
+            byte[] compressed = ByteStreams.toByteArray(data);
+            // The length is read from disk, don't trust it before allocating
+            if (length < 0 || length > Lz4.maxDecompressedLength(compressed.length)) {
+                throw new IOException("Invalid LZ4 decompressed length " + length + " for " + compressed.length + " compressed bytes");
+            }
+            byte[] decompressed = new byte[length];
+            Lz4.decompress(compressed, 0, compressed.length, decompressed);
+            return new ByteArrayInputStream(decompressed);
+        }
+
+        @Override
+        public OutputStream compress(OutputStream output) {
+            return new FilterOutputStream(new ByteArrayOutputStream()) {
+
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    this.out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    ByteArrayOutputStream buffer = (ByteArrayOutputStream) this.out;
+                    byte[] compressed = new byte[Lz4.maxCompressedLength(buffer.size())];
+                    int length = Lz4.compress(buffer.toByteArray(), buffer.size(), compressed);
+                    output.write(buffer.size() >>> 24);
+                    output.write(buffer.size() >>> 16);
+                    output.write(buffer.size() >>> 8);
+                    output.write(buffer.size());
+                    output.write(compressed, 0, length);
+                    output.close();
+                }
+            };
+        }
+    });
+
+    /**
+     * Registers a chunk compression codec.
+     *
+     * @param compression The codec
+     * @param <T> The type of the codec
+     * @return The codec, for chaining
+     * @throws IllegalArgumentException If the id or the type is already registered
+     */
+    public static <T extends ChunkCompression> T register(T compression) {
+        checkNotNull(compression, "compression");
+        checkArgument(byId.putIfAbsent(compression.getId(), compression) == null, "Duplicate chunk compression id %s", compression.getId());
+        if (byType.putIfAbsent(compression.getType(), compression) != null) {
+            byId.remove(compression.getId());
+            throw new IllegalArgumentException("Duplicate chunk compression type " + compression.getType());
+        }
+        return compression;
+    }
+
+    public static Optional<ChunkCompression> getById(String id) {
+        return Optional.ofNullable(byId.get(id));
+    }
+
+    public static Optional<ChunkCompression> getByType(byte type) {
+        return Optional.ofNullable(byType.get(type));
+    }
+
+    /**
+     * Gets the codec new chunk data is written with, as configured.
+     *
+     * @return The configured codec
+     */
+    public static ChunkCompression getConfigured() {
+        String id = Sponge.getGlobalConfig().getConfig().getStorage().getChunkCompression();
+        Optional<ChunkCompression> compression = getById(id);
+        if (!compression.isPresent()) {
+            if (!warnedUnknown) {
+                warnedUnknown = true;
+                Sponge.getLogger().warn("Unknown chunk compression {}, using deflate", id);
+            }
+            return DEFLATE;
+        }
+        return compression.get();
+    }
+
+    private final String id;
+    private final byte type;
+
+    protected ChunkCompression(String id, byte type) {
+        this.id = checkNotNull(id, "id");
+        this.type = type;
+    }
+
+    public final String getId() {
+        return this.id;
+    }
+
+    /**
+     * Gets the type byte stored in front of the chunk data.
+     *
+     * @return The type
+     */
+    public final byte getType() {
+        return this.type;
+    }
+
+    public abstract InputStream decompress(InputStream input) throws IOException;
+
+    /**
+     * Wraps an output stream to compress the data written to it. The
+     * compressed data must be complete once the returned stream is closed.
+     *
+     * @param output The output stream
+     * @return The compressing stream
+     * @throws IOException If the stream could not be created
+     */
+    public abstract OutputStream compress(OutputStream output) throws IOException;
+
+    @Override
+    public String toString() {
+        return this.id;
+    }
+
+}
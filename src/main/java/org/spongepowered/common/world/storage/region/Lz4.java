@@ -0,0 +1,217 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import java.io.IOException;
+
+/**
+ * A pure Java implementation of the LZ4 block format.
+ */
+final class Lz4 {
+
+    private static final int MIN_MATCH = 4;
+    // The last match must start at least 12 bytes before the end of the block
+    private static final int MF_LIMIT = 12;
+    // The last 5 bytes of a block are always literals
+    private static final int LAST_LITERALS = 5;
+    private static final int MAX_OFFSET = 0xFFFF;
+    private static final int HASH_LOG = 14;
+    // Far more than any chunk needs, protects against corrupt lengths
+    private static final int MAX_DECOMPRESSED_LENGTH = 64 * 1024 * 1024;
+
+    private Lz4() {
+    }
+
+    /**
+     * Gets the maximum size of the compressed data of the given length.
+     *
+     * @param length The length of the data
+     * @return The maximum compressed length
+     */
+    static int maxCompressedLength(int length) {
+        return length + length / 255 + 16;
+    }
+
+    /**
+     * Gets the maximum size of the data a block of the given length may
+     * decompress to. Each length byte of 255 adds at most 255 bytes.
+     *
+     * @param compressedLength The length of the block
+     * @return The maximum decompressed length
+     */
+    static int maxDecompressedLength(int compressedLength) {
+        return (int) Math.min(MAX_DECOMPRESSED_LENGTH, compressedLength * 255L);
+    }
+
+    /**
+     * Compresses data into a single block.
+     *
+     * @param src The data
+     * @param length The length of the data
+     * @param dst The destination, at least {@link #maxCompressedLength} long
+     * @return The compressed length
+     */
+    static int compress(byte[] src, int length, byte[] dst) {
+        int[] table = new int[1 << HASH_LOG];
+        int anchor = 0;
+        int ip = 0;
+        int dp = 0;
+        int limit = length - MF_LIMIT;
+        int matchLimit = length - LAST_LITERALS;
+
+        while (ip < limit) {
+            int sequence = readInt(src, ip);
+            int hash = (sequence * -1640531535) >>> (32 - HASH_LOG);
+            // The table stores positions plus one, so that zero means empty
+            int ref = table[hash] - 1;
+            table[hash] = ip + 1;
+            if (ref < 0 || ip - ref > MAX_OFFSET || readInt(src, ref) != sequence) {
+                ip++;
+                continue;
+            }
+
+            while (ip > anchor && ref > 0 && src[ip - 1] == src[ref - 1]) {
+                ip--;
+                ref--;
+            }
+            int matchLength = MIN_MATCH;
+            while (ip + matchLength < matchLimit && src[ip + matchLength] == src[ref + matchLength]) {
+                matchLength++;
+            }
+
+            dp = writeSequence(src, anchor, ip - anchor, dst, dp, ip - ref, matchLength);
+            ip += matchLength;
+            anchor = ip;
+        }
+
+        return writeSequence(src, anchor, length - anchor, dst, dp, 0, 0);
+    }
+
+    private static int writeSequence(byte[] src, int literalStart, int literalLength, byte[] dst, int dp, int offset, int matchLength) {
+        int tokenPos = dp++;
+        int token;
+        if (literalLength >= 15) {
+            token = 15 << 4;
+            dp = writeLength(dst, dp, literalLength - 15);
+        } else {
+            token = literalLength << 4;
+        }
+        System.arraycopy(src, literalStart, dst, dp, literalLength);
+        dp += literalLength;
+
+        if (matchLength > 0) {
+            dst[dp++] = (byte) offset;
+            dst[dp++] = (byte) (offset >>> 8);
+            int length = matchLength - MIN_MATCH;
+            if (length >= 15) {
+                token |= 15;
+                dp = writeLength(dst, dp, length - 15);
+            } else {
+                token |= length;
+            }
+        }
+        dst[tokenPos] = (byte) token;
+        return dp;
+    }
+
+    private static int writeLength(byte[] dst, int dp, int length) {
+        while (length >= 255) {
+            dst[dp++] = (byte) 255;
+            length -= 255;
+        }
+        dst[dp++] = (byte) length;
+        return dp;
+    }
+
+    private static int readInt(byte[] src, int pos) {
+        return (src[pos] & 0xFF) | (src[pos + 1] & 0xFF) << 8 | (src[pos + 2] & 0xFF) << 16 | (src[pos + 3] & 0xFF) << 24;
+    }
+
+    /**
+     * Decompresses a single block.
+     *
+     * @param src The compressed data
+     * @param offset The start of the block in the compressed data
+     * @param length The length of the block
+     * @param dst The destination, exactly as long as the decompressed data
+     * @throws IOException If the block is malformed
+     */
+    static void decompress(byte[] src, int offset, int length, byte[] dst) throws IOException {
+        int sp = offset;
+        int end = offset + length;
+        int dp = 0;
+        try {
+            while (true) {
+                int token = src[sp++] & 0xFF;
+                int literalLength = token >>> 4;
+                if (literalLength == 15) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        literalLength += b;
+                    } while (b == 255);
+                }
+                if (sp + literalLength > end) {
+                    throw new IOException("Literals past the end of the block at " + dp);
+                }
+                System.arraycopy(src, sp, dst, dp, literalLength);
+                sp += literalLength;
+                dp += literalLength;
+                if (sp == end) {
+                    break;
+                }
+                if (sp + 2 > end) {
+                    throw new IOException("Truncated match at " + dp);
+                }
+
+                int matchOffset = (src[sp] & 0xFF) | (src[sp + 1] & 0xFF) << 8;
+                sp += 2;
+                if (matchOffset == 0 || matchOffset > dp) {
+                    throw new IOException("Invalid match offset " + matchOffset + " at " + dp);
+                }
+                int matchLength = token & 15;
+                if (matchLength == 15) {
+                    int b;
+                    do {
+                        b = src[sp++] & 0xFF;
+                        matchLength += b;
+                    } while (b == 255);
+                }
+                matchLength += MIN_MATCH;
+                // Matches may overlap the bytes they produce, so copy byte by byte
+                for (int i = 0; i < matchLength; i++) {
+                    dst[dp] = dst[dp - matchOffset];
+                    dp++;
+                }
+            }
+        } catch (IndexOutOfBoundsException e) {
+            throw new IOException("Malformed LZ4 block", e);
+        }
+        if (dp != dst.length) {
+            throw new IOException("Decompressed " + dp + " bytes, expected " + dst.length);
+        }
+    }
+
+}
@@ -0,0 +1,256 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import java.io.BufferedInputStream;
+import java.io.Closeable;
+import java.io.DataInputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.locks.StampedLock;
+
+import javax.annotation.Nullable;
+
+/**
+ * Reads chunk data from a memory mapped region file. The compressed data is
+ * streamed from the mapped file into the decompressor, without copying it
+ * into an intermediate array first.
+ *
+ * <p>The mapping is extended when a read reaches past it, since region files
+ * grow while chunks are saved. Writes still go through the region file and
+ * are visible through the mapping.</p>
+ *
+ * <p>Each returned stream holds a read lock on the sectors until it is closed
+ * or all of its compressed data has been consumed, so reads run in parallel.
+ * Writes must be wrapped in {@link #lockWrite()} and {@link #unlockWrite(long)}
+ * so they do not reuse sectors that are still being read.</p>
+ */
+public final class MappedRegionReader implements Closeable {
+
+    private static final int SECTOR_SIZE = 4096;
+
+    private final FileChannel channel;
+    private final StampedLock lock = new StampedLock();
+    @Nullable private volatile MappedByteBuffer buffer;
+
+    public MappedRegionReader(File file) throws IOException {
+        this.channel = FileChannel.open(file.toPath(), StandardOpenOption.READ);
+    }
+
+    /**
+     * Opens a stream that decompresses the data of a chunk. The stream must
+     * be closed once it is no longer needed.
+     *
+     * @param sector The first sector of the chunk
+     * @param sectors The number of sectors of the chunk
+     * @return The decompressing stream, or null if the chunk is invalid or its
+     *     compression is unknown
+     * @throws IOException If the data could not be read
+     */
+    @Nullable
+    public DataInputStream read(int sector, int sectors) throws IOException {
+        long stamp = this.lock.readLock();
+        SectorInputStream source = null;
+        DataInputStream input = null;
+        try {
+            ByteBuffer data = map((long) (sector + sectors) * SECTOR_SIZE);
+            if (data == null) {
+                return null;
+            }
+            data.position(sector * SECTOR_SIZE);
+            int length = data.getInt();
+            if (length > SECTOR_SIZE * sectors || length <= 0) {
+                return null;
+            }
+            ChunkCompression compression = ChunkCompression.getByType(data.get()).orElse(null);
+            if (compression == null) {
+                return null;
+            }
+            data.limit(data.position() + length - 1);
+            source = new SectorInputStream(data, this.lock, stamp);
+            input = new ChunkDataInputStream(compression.decompress(source), source);
+            return input;
+        } finally {
+            if (input == null) {
+                if (source == null) {
+                    this.lock.unlockRead(stamp);
+                } else {
+                    source.close();
+                }
+            }
+        }
+    }
+
+    @Nullable
+    private synchronized ByteBuffer map(long end) throws IOException {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null || end > buffer.capacity()) {
+            // Streams may still read the previous mapping, it is released by the garbage collector
+            buffer = this.channel.map(FileChannel.MapMode.READ_ONLY, 0, this.channel.size());
+            this.buffer = buffer;
+            if (end > buffer.capacity()) {
+                return null;
+            }
+        }
+        return buffer.duplicate();
+    }
+
+    /**
+     * Waits until no chunk is being read and blocks new reads, before the
+     * sectors of the region file are written.
+     *
+     * @return The stamp to pass to {@link #unlockWrite(long)}
+     */
+    public long lockWrite() {
+        return this.lock.writeLock();
+    }
+
+    public void unlockWrite(long stamp) {
+        this.lock.unlockWrite(stamp);
+    }
+
+    @Override
+    public void close() throws IOException {
+        long stamp = this.lock.writeLock();
+        try {
+            synchronized (this) {
+                unmap();
+                this.channel.close();
+            }
+        } finally {
+            this.lock.unlockWrite(stamp);
+        }
+    }
+
+    private void unmap() {
+        MappedByteBuffer buffer = this.buffer;
+        if (buffer == null) {
+            return;
+        }
+        // Mappings are otherwise only released once the buffer is garbage collected,
+        // which keeps the file locked on some platforms
+        try {
+            Method cleanerMethod = buffer.getClass().getMethod("cleaner");
+            cleanerMethod.setAccessible(true);
+            Object cleaner = cleanerMethod.invoke(buffer);
+            if (cleaner != null) {
+                cleaner.getClass().getMethod("clean").invoke(cleaner);
+            }
+        } catch (ReflectiveOperationException | RuntimeException ignored) {
+            // Released by the garbage collector instead
+        }
+        this.buffer = null;
+    }
+
+    /**
+     * Reads the compressed data of a chunk from the mapping, releasing the
+     * read lock once all of it was read or the stream is closed.
+     */
+    private static final class SectorInputStream extends InputStream {
+
+        private final ByteBuffer buffer;
+        private final StampedLock lock;
+        private long stamp;
+
+        SectorInputStream(ByteBuffer buffer, StampedLock lock, long stamp) {
+            this.buffer = buffer;
+            this.lock = lock;
+            this.stamp = stamp;
+        }
+
+        @Override
+        public synchronized int read() {
+            if (this.stamp == 0 || !this.buffer.hasRemaining()) {
+                return -1;
+            }
+            int b = this.buffer.get() & 0xFF;
+            releaseIfConsumed();
+            return b;
+        }
+
+        @Override
+        public synchronized int read(byte[] b, int off, int len) {
+            if (this.stamp == 0 || !this.buffer.hasRemaining()) {
+                return -1;
+            }
+            len = Math.min(len, this.buffer.remaining());
+            this.buffer.get(b, off, len);
+            releaseIfConsumed();
+            return len;
+        }
+
+        @Override
+        public synchronized int available() {
+            return this.stamp == 0 ? 0 : this.buffer.remaining();
+        }
+
+        @Override
+        public synchronized void close() {
+            if (this.stamp != 0) {
+                this.lock.unlockRead(this.stamp);
+                this.stamp = 0;
+            }
+        }
+
+        private void releaseIfConsumed() {
+            // Vanilla never closes the chunk streams it reads, the sectors are no longer needed at this point
+            if (!this.buffer.hasRemaining()) {
+                close();
+            }
+        }
+
+    }
+
+    /**
+     * Releases the read lock of the compressed data when closed, even if the
+     * decompressor does not close its source.
+     */
+    private static final class ChunkDataInputStream extends DataInputStream {
+
+        private final SectorInputStream source;
+
+        ChunkDataInputStream(InputStream input, SectorInputStream source) {
+            super(new BufferedInputStream(input));
+            this.source = source;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                this.source.close();
+            }
+        }
+
+    }
+
+}
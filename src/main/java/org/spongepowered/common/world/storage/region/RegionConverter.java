@@ -0,0 +1,243 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import com.google.common.io.ByteStreams;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+
+/**
+ * Converts the chunks in the region files of a world to another
+ * {@link ChunkCompression}, for example back to deflate so that vanilla can
+ * read the world again. The region files are moved to the folder
+ * {@link RegionStorage} stores chunks of the target codec in. The server must
+ * not be running while converting.
+ *
+ * <p>Usage: {@code RegionConverter <world folder> <gzip|deflate|lz4>}</p>
+ */
+public final class RegionConverter {
+
+    private static final int SECTOR_SIZE = 4096;
+    private static final int CHUNKS = 1024;
+    private static final String REGION_FOLDER = "region";
+
+    private RegionConverter() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            System.err.println("Usage: RegionConverter <world folder> <gzip|deflate|lz4>");
+            System.exit(1);
+        }
+        Optional<ChunkCompression> target = ChunkCompression.getById(args[1]);
+        if (!target.isPresent()) {
+            System.err.println("Unknown chunk compression " + args[1]);
+            System.exit(1);
+        }
+        int chunks = convertWorld(new File(args[0]), target.get());
+        System.out.println("Converted " + chunks + " chunks to " + target.get());
+    }
+
+    /**
+     * Converts all region files in the world folder and its sub folders.
+     *
+     * @param folder The world folder
+     * @param target The compression to convert to
+     * @return The number of converted chunks
+     * @throws IOException If a region file could not be converted
+     */
+    public static int convertWorld(File folder, ChunkCompression target) throws IOException {
+        int chunks = 0;
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return 0;
+        }
+        File targetFolder = new File(RegionStorage.getFolder(folder, target), REGION_FOLDER);
+        for (File file : files) {
+            if (!file.isDirectory()) {
+                continue;
+            }
+            if (file.getName().equals(REGION_FOLDER)) {
+                chunks += convertRegions(file, targetFolder, target);
+            } else if (RegionStorage.getFolderCompression(file.getName()).isPresent()) {
+                chunks += convertRegions(new File(file, REGION_FOLDER), targetFolder, target);
+                // Only removed if all region files were moved
+                file.delete();
+            } else {
+                // Dimensions are stored in sub folders
+                chunks += convertWorld(file, target);
+            }
+        }
+        return chunks;
+    }
+
+    private static int convertRegions(File folder, File targetFolder, ChunkCompression target) throws IOException {
+        File[] files = folder.listFiles();
+        if (files == null) {
+            return 0;
+        }
+        int chunks = 0;
+        for (File file : files) {
+            if (file.getName().endsWith(".mca")) {
+                chunks += convertRegion(file, new File(targetFolder, file.getName()), target);
+            }
+        }
+        if (!folder.equals(targetFolder)) {
+            folder.delete();
+        }
+        return chunks;
+    }
+
+    /**
+     * Converts a single region file. The converted file replaces the
+     * original once it is completely written.
+     *
+     * @param file The region file
+     * @param target The compression to convert to
+     * @return The number of converted chunks
+     * @throws IOException If the region file could not be converted
+     */
+    public static int convertRegion(File file, ChunkCompression target) throws IOException {
+        return convertRegion(file, file, target);
+    }
+
+    /**
+     * Converts a single region file and moves it to the given file. The
+     * original is only removed once the converted file is completely
+     * written.
+     *
+     * @param file The region file
+     * @param destination The file to write the converted region file to
+     * @param target The compression to convert to
+     * @return The number of converted chunks
+     * @throws IOException If the region file could not be converted, or the
+     *     destination already exists
+     */
+    public static int convertRegion(File file, File destination, ChunkCompression target) throws IOException {
+        boolean move = !file.equals(destination);
+        if (move && destination.exists()) {
+            throw new IOException("Cannot move " + file + " to " + destination + ", it already exists");
+        }
+        ByteBuffer region = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        if (region.capacity() < 2 * SECTOR_SIZE) {
+            if (move) {
+                Files.createDirectories(destination.getParentFile().toPath());
+                Files.move(file.toPath(), destination.toPath());
+            }
+            return 0;
+        }
+
+        ByteArrayOutputStream chunkData = new ByteArrayOutputStream(region.capacity());
+        int[] offsets = new int[CHUNKS];
+        int nextSector = 2;
+        int converted = 0;
+        for (int i = 0; i < CHUNKS; i++) {
+            int offset = region.getInt(i * 4);
+            if (offset == 0) {
+                continue;
+            }
+            int position = (offset >> 8) * SECTOR_SIZE;
+            int length = region.getInt(position);
+            if (length <= 0 || position + 4 + length > region.capacity()) {
+                throw new IOException("Chunk " + i + " in " + file + " is corrupt");
+            }
+            byte type = region.get(position + 4);
+            byte[] data = new byte[length - 1];
+            region.position(position + 5);
+            region.get(data);
+
+            if (type != target.getType()) {
+                Optional<ChunkCompression> source = ChunkCompression.getByType(type);
+                if (!source.isPresent()) {
+                    throw new IOException("Unknown compression type " + type + " of chunk " + i + " in " + file);
+                }
+                data = recompress(data, source.get(), target);
+                converted++;
+            }
+
+            int sectors = (data.length + 5 + SECTOR_SIZE - 1) / SECTOR_SIZE;
+            if (sectors > 255) {
+                throw new IOException("Chunk " + i + " in " + file + " is too large after conversion");
+            }
+            DataOutputStream output = new DataOutputStream(chunkData);
+            output.writeInt(data.length + 1);
+            output.writeByte(type != target.getType() ? target.getType() : type);
+            output.write(data);
+            // Pad to the end of the sector
+            output.write(new byte[sectors * SECTOR_SIZE - data.length - 5]);
+            offsets[i] = nextSector << 8 | sectors;
+            nextSector += sectors;
+        }
+
+        if (converted == 0) {
+            if (move) {
+                Files.createDirectories(destination.getParentFile().toPath());
+                Files.move(file.toPath(), destination.toPath());
+            }
+            return 0;
+        }
+        ByteBuffer header = ByteBuffer.allocate(2 * SECTOR_SIZE);
+        for (int offset : offsets) {
+            header.putInt(offset);
+        }
+        // Keep the timestamps
+        header.put(region.array(), CHUNKS * 4, CHUNKS * 4);
+
+        Files.createDirectories(destination.getParentFile().toPath());
+        File converting = new File(destination.getPath() + ".converting");
+        try (OutputStream output = Files.newOutputStream(converting.toPath())) {
+            output.write(header.array());
+            chunkData.writeTo(output);
+        }
+        Files.move(converting.toPath(), destination.toPath(), StandardCopyOption.REPLACE_EXISTING);
+        if (move) {
+            Files.delete(file.toPath());
+        }
+        return converted;
+    }
+
+    private static byte[] recompress(byte[] data, ChunkCompression source, ChunkCompression target) throws IOException {
+        byte[] raw;
+        try (InputStream input = source.decompress(new ByteArrayInputStream(data))) {
+            raw = ByteStreams.toByteArray(input);
+        }
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream(raw.length);
+        try (OutputStream output = target.compress(compressed)) {
+            output.write(raw);
+        }
+        return compressed.toByteArray();
+    }
+
+}
@@ -0,0 +1,170 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+import org.spongepowered.common.Sponge;
+
+import java.io.File;
+import java.util.Optional;
+
+/**
+ * Chooses the folder the region files of a world are stored in.
+ *
+ * <p>Vanilla reads chunks with an unknown compression type as missing and
+ * generates them again. Chunks compressed with a codec vanilla does not know
+ * are therefore never written to the region files vanilla opens, but to a
+ * separate folder in the world folder, for example
+ * {@code sponge-lz4/region}. {@link RegionConverter} moves the region files
+ * between the folders.</p>
+ */
+public final class RegionStorage {
+
+    private static final String FOLDER_PREFIX = "sponge-";
+    private static final String REGION_FOLDER = "region";
+
+    private RegionStorage() {
+    }
+
+    /**
+     * Gets the folder the chunk loader of a world stores its region folder
+     * in.
+     *
+     * <p>A world that already has chunks in the folder of a codec keeps
+     * using it, even if another codec is configured now. A world with
+     * vanilla region files only moves to the folder of the configured codec
+     * once it was converted, so its chunks are never generated again.</p>
+     *
+     * @param worldDirectory The world folder
+     * @return The folder containing the region folder
+     */
+    public static File getChunkFolder(File worldDirectory) {
+        checkNotNull(worldDirectory, "worldDirectory");
+        ChunkCompression configured = ChunkCompression.getConfigured();
+        Optional<ChunkCompression> stored = getStoredCompression(worldDirectory);
+        if (stored.isPresent()) {
+            if (stored.get() != configured) {
+                Sponge.getLogger().warn("The chunks of {} are stored as {} instead of {}, convert the world with RegionConverter to change it",
+                        worldDirectory, stored.get(), configured);
+            }
+            return getFolder(worldDirectory, stored.get());
+        }
+        if (isVanillaCompatible(configured)) {
+            return worldDirectory;
+        }
+        if (hasRegionFiles(new File(worldDirectory, REGION_FOLDER))) {
+            Sponge.getLogger().warn("The chunks of {} are stored in vanilla region files, they are written as deflate instead of {} until the "
+                    + "world is converted with RegionConverter", worldDirectory, configured);
+            return worldDirectory;
+        }
+        return getFolder(worldDirectory, configured);
+    }
+
+    /**
+     * Gets the codec new chunk data is written to a region file with. Only
+     * region files in the folder of a codec are written with it, vanilla
+     * region files are written with the configured codec if vanilla can read
+     * it and with deflate otherwise.
+     *
+     * @param regionFile The region file
+     * @return The codec to write chunks with
+     */
+    public static ChunkCompression getWriteCompression(File regionFile) {
+        File chunkFolder = regionFile.getAbsoluteFile().getParentFile().getParentFile();
+        Optional<ChunkCompression> folderCompression = getFolderCompression(chunkFolder.getName());
+        if (folderCompression.isPresent()) {
+            return folderCompression.get();
+        }
+        ChunkCompression configured = ChunkCompression.getConfigured();
+        return isVanillaCompatible(configured) ? configured : ChunkCompression.DEFLATE;
+    }
+
+    /**
+     * Gets whether vanilla can read chunks compressed with the given codec.
+     *
+     * @param compression The codec
+     * @return True for gzip and deflate
+     */
+    public static boolean isVanillaCompatible(ChunkCompression compression) {
+        return compression == ChunkCompression.GZIP || compression == ChunkCompression.DEFLATE;
+    }
+
+    /**
+     * Gets the folder containing the region folder for chunks compressed
+     * with the given codec.
+     *
+     * @param worldDirectory The world folder
+     * @param compression The codec
+     * @return The folder containing the region folder
+     */
+    public static File getFolder(File worldDirectory, ChunkCompression compression) {
+        return isVanillaCompatible(compression) ? worldDirectory : new File(worldDirectory, FOLDER_PREFIX + compression.getId());
+    }
+
+    /**
+     * Gets the codec of the codec folder in the world folder that contains
+     * region files, if any.
+     *
+     * @param worldDirectory The world folder
+     * @return The codec of the stored chunks
+     */
+    static Optional<ChunkCompression> getStoredCompression(File worldDirectory) {
+        File[] folders = worldDirectory.listFiles();
+        if (folders != null) {
+            for (File folder : folders) {
+                Optional<ChunkCompression> compression = getFolderCompression(folder.getName());
+                if (compression.isPresent() && hasRegionFiles(new File(folder, REGION_FOLDER))) {
+                    return compression;
+                }
+            }
+        }
+        return Optional.empty();
+    }
+
+    static Optional<ChunkCompression> getFolderCompression(String folderName) {
+        if (!folderName.startsWith(FOLDER_PREFIX)) {
+            return Optional.empty();
+        }
+        Optional<ChunkCompression> compression = ChunkCompression.getById(folderName.substring(FOLDER_PREFIX.length()));
+        if (compression.isPresent() && isVanillaCompatible(compression.get())) {
+            return Optional.empty();
+        }
+        return compression;
+    }
+
+    static boolean hasRegionFiles(File regionFolder) {
+        String[] files = regionFolder.list();
+        if (files != null) {
+            for (String file : files) {
+                if (file.endsWith(".mca")) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+}
@@ -0,0 +1,209 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.Executor;
+
+public class FairTaskExecutorTest {
+
+    private static final long RUN_NANOS = 1000000;
+
+    private final PluginContainer first = Mockito.mock(PluginContainer.class);
+    private final PluginContainer second = Mockito.mock(PluginContainer.class);
+    private final List<PluginContainer> started = new ArrayList<>();
+
+    @Test
+    public void testRunTimeIsSharedByWeight() {
+        TestExecutor executor = new TestExecutor(1);
+        executor.weights.put(this.first, 3.0);
+        for (int i = 0; i < 40; i++) {
+            executor.execute(this.first, task(executor, this.first));
+            executor.execute(this.second, task(executor, this.second));
+        }
+
+        executor.pool.run(40);
+        int first = count(this.first);
+        assertTrue("The first plugin ran " + first + " of 40 tasks", first >= 29 && first <= 31);
+    }
+
+    @Test
+    public void testLimitIsEnforced() {
+        TestExecutor executor = new TestExecutor(4);
+        executor.limits.put(this.first, 1);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this.first, task(executor, this.first));
+            executor.execute(this.second, task(executor, this.second));
+        }
+
+        PluginTaskStats firstStats = stats(executor, this.first);
+        assertEquals(1, firstStats.getRunning());
+        assertEquals(2, firstStats.getQueued());
+        assertEquals(3, stats(executor, this.second).getRunning());
+
+        // A free thread is not given to the first plugin while it is at its limit
+        executor.pool.run(1);
+        assertEquals(1, stats(executor, this.first).getRunning());
+    }
+
+    @Test
+    public void testLimitIsRefreshedOnReload() {
+        TestExecutor executor = new TestExecutor(4);
+        executor.limits.put(this.first, 1);
+        for (int i = 0; i < 3; i++) {
+            executor.execute(this.first, task(executor, this.first));
+        }
+        assertEquals(1, stats(executor, this.first).getRunning());
+
+        executor.limits.put(this.first, 2);
+        executor.execute(this.first, task(executor, this.first));
+        assertEquals(1, stats(executor, this.first).getRunning());
+
+        executor.revision++;
+        executor.execute(this.first, task(executor, this.first));
+        assertEquals(2, stats(executor, this.first).getRunning());
+    }
+
+    @Test
+    public void testFloodingPluginDoesNotStarveOthers() {
+        TestExecutor executor = new TestExecutor(1);
+        for (int i = 0; i < 1000; i++) {
+            executor.execute(this.first, task(executor, this.first));
+        }
+        executor.pool.run(100);
+
+        // The second plugin was idle, so it starts from the current virtual time instead of zero
+        executor.execute(this.second, task(executor, this.second));
+        executor.pool.run(2);
+        assertEquals(1, count(this.second));
+
+        // It is not punished for the time it was idle either
+        executor.execute(this.second, task(executor, this.second));
+        executor.execute(this.second, task(executor, this.second));
+        executor.pool.run(4);
+        assertEquals(3, count(this.second));
+    }
+
+    private Runnable task(TestExecutor executor, PluginContainer plugin) {
+        return () -> {
+            this.started.add(plugin);
+            executor.nanos += RUN_NANOS;
+        };
+    }
+
+    private int count(PluginContainer plugin) {
+        int count = 0;
+        for (PluginContainer startedPlugin : this.started) {
+            if (startedPlugin == plugin) {
+                count++;
+            }
+        }
+        return count;
+    }
+
+    private static PluginTaskStats stats(FairTaskExecutor executor, PluginContainer plugin) {
+        for (PluginTaskStats stats : executor.getStats()) {
+            if (stats.getPlugin() == plugin) {
+                return stats;
+            }
+        }
+        throw new AssertionError("No stats for " + plugin);
+    }
+
+    /**
+     * A pool that runs the submitted commands only when asked to, in the
+     * order they were submitted.
+     */
+    private static final class ManualPool implements Executor {
+
+        final Queue<Runnable> commands = new ArrayDeque<>();
+
+        @Override
+        public void execute(Runnable command) {
+            this.commands.add(command);
+        }
+
+        void run(int count) {
+            for (int i = 0; i < count && !this.commands.isEmpty(); i++) {
+                this.commands.poll().run();
+            }
+        }
+
+    }
+
+    private static final class TestExecutor extends FairTaskExecutor {
+
+        final ManualPool pool;
+        final Map<PluginContainer, Integer> limits = new HashMap<>();
+        final Map<PluginContainer, Double> weights = new HashMap<>();
+        int revision;
+        long nanos;
+
+        TestExecutor(int threads) {
+            this(threads, new ManualPool());
+        }
+
+        private TestExecutor(int threads, ManualPool pool) {
+            super(threads, pool);
+            this.pool = pool;
+        }
+
+        @Override
+        int getConfigRevision() {
+            return this.revision;
+        }
+
+        @Override
+        int getLimit(PluginContainer plugin) {
+            Integer limit = this.limits.get(plugin);
+            return limit == null ? 0 : limit;
+        }
+
+        @Override
+        double getWeight(PluginContainer plugin) {
+            Double weight = this.weights.get(plugin);
+            return weight == null ? 0 : weight;
+        }
+
+        @Override
+        long nanoTime() {
+            return this.nanos;
+        }
+
+    }
+
+}
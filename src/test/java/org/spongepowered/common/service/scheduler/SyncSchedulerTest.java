@@ -0,0 +1,229 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.service.scheduler;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableList;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+import org.spongepowered.api.plugin.PluginContainer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+public class SyncSchedulerTest {
+
+    private static final long BUDGET = TimeUnit.MILLISECONDS.toNanos(1);
+
+    private final PluginContainer plugin = Mockito.mock(PluginContainer.class);
+    private TestScheduler scheduler;
+
+    @Before
+    public void createScheduler() {
+        this.scheduler = new TestScheduler();
+    }
+
+    @Test
+    public void testMostOverdueTaskRunsFirst() {
+        this.scheduler.addTask(tickTask("tick", 2));
+        this.scheduler.addTask(timeTask("time-60", 60));
+        this.scheduler.addTask(timeTask("time-140", 140));
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of(), this.scheduler.started);
+
+        // At tick 2 the tick task is 0ms overdue, the time tasks 90ms and 10ms
+        this.scheduler.millis = 150;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("time-60", "time-140", "tick"), this.scheduler.started);
+    }
+
+    @Test
+    public void testTickTaskWinsTie() {
+        this.scheduler.addTask(timeTask("time", 100));
+        this.scheduler.addTask(tickTask("tick", 2));
+        this.scheduler.tick();
+
+        this.scheduler.millis = 100;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("tick", "time"), this.scheduler.started);
+    }
+
+    @Test
+    public void testDeferredTasksKeepDueOrder() {
+        this.scheduler.budget = BUDGET;
+        this.scheduler.runNanos = BUDGET;
+        this.scheduler.addTask(timeTask("a", 10));
+        this.scheduler.addTask(timeTask("b", 20));
+        this.scheduler.addTask(timeTask("c", 30));
+
+        this.scheduler.millis = 100;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a"), this.scheduler.started);
+        assertEquals(2, this.scheduler.getDeferrals());
+
+        // Due after the deferred tasks, so it has to wait for them
+        this.scheduler.addTask(timeTask("d", 0));
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a", "b"), this.scheduler.started);
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a", "b", "c"), this.scheduler.started);
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a", "b", "c", "d"), this.scheduler.started);
+        assertEquals(5, this.scheduler.getDeferrals());
+    }
+
+    @Test
+    public void testPriorityTaskBypassesBudget() {
+        this.scheduler.budget = BUDGET;
+        this.scheduler.runNanos = BUDGET;
+        this.scheduler.addTask(timeTask("a", 10));
+        this.scheduler.addTask(new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> { }, "priority", 20, false, 0, false,
+                true, this.plugin));
+        this.scheduler.addTask(timeTask("c", 30));
+
+        this.scheduler.millis = 100;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a", "priority"), this.scheduler.started);
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("a", "priority", "c"), this.scheduler.started);
+    }
+
+    @Test
+    public void testCancelledTaskIsDropped() {
+        ScheduledTask cancelled = timeTask("cancelled", 10);
+        this.scheduler.addTask(cancelled);
+        this.scheduler.addTask(timeTask("kept", 20));
+        cancelled.cancel();
+
+        // The task is only removed once it is due, but it is no longer listed
+        assertTrue(this.scheduler.getTask(cancelled.getUniqueId()).isPresent());
+        assertEquals(1, this.scheduler.getScheduledTasks().size());
+
+        this.scheduler.millis = 100;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("kept"), this.scheduler.started);
+        assertFalse(this.scheduler.getTask(cancelled.getUniqueId()).isPresent());
+    }
+
+    @Test
+    public void testCancelledRepeatingTaskIsNotRescheduled() {
+        ScheduledTask repeating = new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> { }, "repeating", 10, false, 50,
+                false, false, this.plugin);
+        this.scheduler.addTask(repeating);
+        this.scheduler.millis = 10;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("repeating"), this.scheduler.started);
+
+        repeating.cancel();
+        this.scheduler.millis = 60;
+        this.scheduler.tick();
+        this.scheduler.millis = 110;
+        this.scheduler.tick();
+        assertEquals(ImmutableList.of("repeating"), this.scheduler.started);
+        assertFalse(this.scheduler.getTask(repeating.getUniqueId()).isPresent());
+    }
+
+    @Test
+    public void testChronicDeferrals() {
+        this.scheduler.budget = BUDGET;
+        this.scheduler.runNanos = BUDGET;
+        this.scheduler.chronicDeferralTicks = 2;
+        for (int i = 1; i <= 4; i++) {
+            this.scheduler.addTask(timeTask("task-" + i, i * 10));
+        }
+
+        this.scheduler.millis = 100;
+        for (int i = 0; i < 4; i++) {
+            this.scheduler.tick();
+        }
+        assertEquals(ImmutableList.of("task-1", "task-2", "task-3", "task-4"), this.scheduler.started);
+        // Deferred for 3, 2 and 1 ticks, the tasks deferred twice reach the limit
+        assertEquals(6, this.scheduler.getDeferrals());
+        assertEquals(2, this.scheduler.getChronicDeferrals());
+        assertEquals(ImmutableList.of("task-3", "task-4"), this.scheduler.chronic);
+    }
+
+    private ScheduledTask tickTask(String name, long delay) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> { }, name, delay, true, 0, false, false, this.plugin);
+    }
+
+    private ScheduledTask timeTask(String name, long delay) {
+        return new ScheduledTask(ScheduledTask.TaskSynchronicity.SYNCHRONOUS, task -> { }, name, delay, false, 0, false, false, this.plugin);
+    }
+
+    /**
+     * A sync scheduler with a manual clock, that records the tasks it starts
+     * instead of running them.
+     */
+    private static final class TestScheduler extends SyncScheduler {
+
+        final List<String> started = new ArrayList<>();
+        final List<String> chronic = new ArrayList<>();
+        long millis;
+        long nanos;
+        long budget;
+        long runNanos;
+        int chronicDeferralTicks = Integer.MAX_VALUE;
+
+        @Override
+        protected long currentTimeMillis() {
+            return this.millis;
+        }
+
+        @Override
+        long nanoTime() {
+            return this.nanos;
+        }
+
+        @Override
+        long getTickBudget() {
+            return this.budget;
+        }
+
+        @Override
+        int getChronicDeferralTicks() {
+            return this.chronicDeferralTicks;
+        }
+
+        @Override
+        void logChronicDeferral(ScheduledTask task) {
+            this.chronic.add(task.getName());
+        }
+
+        @Override
+        protected void startTask(ScheduledTask task) {
+            task.setState(ScheduledTask.ScheduledTaskState.RUNNING);
+            this.started.add(task.getName());
+            this.nanos += this.runNanos;
+        }
+
+    }
+
+}
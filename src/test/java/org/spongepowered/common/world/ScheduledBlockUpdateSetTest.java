@@ -0,0 +1,165 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.collect.ImmutableSet;
+import net.minecraft.block.Block;
+import net.minecraft.util.BlockPos;
+import net.minecraft.world.NextTickListEntry;
+import org.junit.Before;
+import org.junit.Test;
+import org.mockito.Mockito;
+
+import java.util.Collection;
+import java.util.Iterator;
+
+public class ScheduledBlockUpdateSetTest {
+
+    private static final BlockPos POSITION = new BlockPos(3, 64, 5);
+    // In the same chunk as POSITION
+    private static final BlockPos NEIGHBOR = new BlockPos(4, 64, 5);
+    // In chunk (-1, -1)
+    private static final BlockPos NEGATIVE = new BlockPos(-1, 64, -1);
+
+    private final Block stone = Mockito.mock(Block.class);
+    private final Block water = Mockito.mock(Block.class);
+    private ScheduledBlockUpdateSet set;
+
+    @Before
+    public void setUp() {
+        this.set = new ScheduledBlockUpdateSet();
+    }
+
+    @Test
+    public void testAdd() {
+        NextTickListEntry first = add(POSITION, this.stone);
+        NextTickListEntry second = add(POSITION, this.water);
+        NextTickListEntry neighbor = add(NEIGHBOR, this.stone);
+        NextTickListEntry negative = add(NEGATIVE, this.stone);
+
+        assertUpdates(this.set.getUpdates(POSITION), first, second);
+        assertUpdates(this.set.getUpdates(NEIGHBOR), neighbor);
+        assertUpdates(this.set.getUpdates(NEGATIVE), negative);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), first, second, neighbor);
+        assertUpdates(this.set.getUpdatesInChunk(-1, -1), negative);
+        assertUpdates(this.set.getUpdatesInChunk(1, 0));
+    }
+
+    @Test
+    public void testAddDuplicate() {
+        NextTickListEntry entry = add(POSITION, this.stone);
+
+        assertFalse(this.set.add(new NextTickListEntry(POSITION, this.stone)));
+        assertEquals(1, this.set.size());
+        assertUpdates(this.set.getUpdates(POSITION), entry);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), entry);
+    }
+
+    @Test
+    public void testRemove() {
+        add(POSITION, this.stone);
+        NextTickListEntry second = add(POSITION, this.water);
+        NextTickListEntry neighbor = add(NEIGHBOR, this.stone);
+
+        // Entries are equal by position and block, like vanilla removes them
+        assertTrue(this.set.remove(new NextTickListEntry(POSITION, this.stone)));
+        assertUpdates(this.set.getUpdates(POSITION), second);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), second, neighbor);
+
+        assertTrue(this.set.remove(second));
+        assertUpdates(this.set.getUpdates(POSITION));
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), neighbor);
+
+        assertTrue(this.set.remove(neighbor));
+        assertUpdates(this.set.getUpdates(NEIGHBOR));
+        assertUpdates(this.set.getUpdatesInChunk(0, 0));
+    }
+
+    @Test
+    public void testRemoveMissing() {
+        NextTickListEntry entry = add(POSITION, this.stone);
+
+        assertFalse(this.set.remove(new NextTickListEntry(POSITION, this.water)));
+        assertFalse(this.set.remove(new NextTickListEntry(NEIGHBOR, this.stone)));
+        assertUpdates(this.set.getUpdates(POSITION), entry);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), entry);
+    }
+
+    @Test
+    public void testClear() {
+        add(POSITION, this.stone);
+        add(NEGATIVE, this.stone);
+
+        this.set.clear();
+        assertTrue(this.set.isEmpty());
+        assertUpdates(this.set.getUpdates(POSITION));
+        assertUpdates(this.set.getUpdates(NEGATIVE));
+        assertUpdates(this.set.getUpdatesInChunk(0, 0));
+        assertUpdates(this.set.getUpdatesInChunk(-1, -1));
+
+        // The indexes still work after clearing
+        NextTickListEntry entry = add(POSITION, this.stone);
+        assertUpdates(this.set.getUpdates(POSITION), entry);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), entry);
+    }
+
+    @Test
+    public void testIteratorRemove() {
+        NextTickListEntry first = add(POSITION, this.stone);
+        NextTickListEntry second = add(POSITION, this.water);
+        NextTickListEntry negative = add(NEGATIVE, this.stone);
+
+        Iterator<NextTickListEntry> iterator = this.set.iterator();
+        while (iterator.hasNext()) {
+            NextTickListEntry entry = iterator.next();
+            if (entry != second) {
+                iterator.remove();
+            }
+        }
+        assertUpdates(this.set, second);
+        assertUpdates(this.set.getUpdates(POSITION), second);
+        assertUpdates(this.set.getUpdatesInChunk(0, 0), second);
+        assertUpdates(this.set.getUpdates(NEGATIVE));
+        assertUpdates(this.set.getUpdatesInChunk(-1, -1));
+        assertFalse(this.set.contains(first));
+        assertFalse(this.set.contains(negative));
+    }
+
+    private NextTickListEntry add(BlockPos position, Block block) {
+        NextTickListEntry entry = new NextTickListEntry(position, block);
+        assertTrue(this.set.add(entry));
+        return entry;
+    }
+
+    private static void assertUpdates(Collection<NextTickListEntry> actual, NextTickListEntry... expected) {
+        assertEquals(expected.length, actual.size());
+        assertEquals(ImmutableSet.copyOf(expected), ImmutableSet.copyOf(actual));
+    }
+
+}
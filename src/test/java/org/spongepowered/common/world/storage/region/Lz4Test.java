@@ -0,0 +1,173 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.Arrays;
+import java.util.Random;
+
+public class Lz4Test {
+
+    @Test
+    public void testEmpty() throws IOException {
+        assertRoundTrip(new byte[0]);
+    }
+
+    @Test
+    public void testTiny() throws IOException {
+        for (int length = 1; length < 12; length++) {
+            byte[] data = new byte[length];
+            Arrays.fill(data, (byte) 7);
+            assertRoundTrip(data);
+        }
+    }
+
+    @Test
+    public void testIncompressible() throws IOException {
+        byte[] data = new byte[100000];
+        new Random(42).nextBytes(data);
+        byte[] compressed = assertRoundTrip(data);
+        assertTrue(compressed.length <= Lz4.maxCompressedLength(data.length));
+    }
+
+    @Test
+    public void testRepetitive() throws IOException {
+        byte[] zeros = new byte[1024 * 1024];
+        byte[] compressed = assertRoundTrip(zeros);
+        assertTrue("Compressed to " + compressed.length + " bytes", compressed.length < zeros.length / 100);
+
+        byte[] pattern = new byte[50000];
+        for (int i = 0; i < pattern.length; i++) {
+            pattern[i] = (byte) (i % 7);
+        }
+        assertRoundTrip(pattern);
+    }
+
+    @Test
+    public void testRepeatBeyondMaxOffset() throws IOException {
+        // The same random block twice, further apart than a match may reach
+        byte[] block = new byte[1000];
+        new Random(7).nextBytes(block);
+        byte[] data = new byte[block.length + 70000 + block.length];
+        System.arraycopy(block, 0, data, 0, block.length);
+        byte[] gap = new byte[70000];
+        new Random(9).nextBytes(gap);
+        System.arraycopy(gap, 0, data, block.length, gap.length);
+        System.arraycopy(block, 0, data, block.length + gap.length, block.length);
+        assertRoundTrip(data);
+    }
+
+    @Test(expected = IOException.class)
+    public void testInvalidMatchOffset() throws IOException {
+        // One literal, then a match with an offset of 2
+        Lz4.decompress(new byte[] {0x10, 1, 2, 0, 0x00}, 0, 5, new byte[10]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testZeroMatchOffset() throws IOException {
+        Lz4.decompress(new byte[] {0x10, 1, 0, 0, 0x00}, 0, 5, new byte[10]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedLiterals() throws IOException {
+        // Claims 5 literals but only has 2
+        Lz4.decompress(new byte[] {0x50, 1, 2}, 0, 3, new byte[5]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testTruncatedMatch() throws IOException {
+        Lz4.decompress(new byte[] {0x10, 1, 1}, 0, 3, new byte[10]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testWrongDecompressedLength() throws IOException {
+        byte[] data = new byte[100];
+        byte[] compressed = compress(data);
+        Lz4.decompress(compressed, 0, compressed.length, new byte[99]);
+    }
+
+    @Test(expected = IOException.class)
+    public void testNegativeLength() throws IOException {
+        decompress(new byte[] {(byte) 0xFF, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x00});
+    }
+
+    @Test(expected = IOException.class)
+    public void testExcessiveLength() throws IOException {
+        decompress(new byte[] {0x7F, (byte) 0xFF, (byte) 0xFF, (byte) 0xFF, 0x00});
+    }
+
+    @Test
+    public void testCodecRoundTrip() throws IOException {
+        byte[] data = new byte[20000];
+        for (int i = 0; i < data.length; i++) {
+            data[i] = (byte) (i / 100);
+        }
+        assertArrayEquals(data, decompress(compressWithCodec(data)));
+
+        // Close to the highest ratio, which must still pass the length check
+        byte[] zeros = new byte[1024 * 1024];
+        assertArrayEquals(zeros, decompress(compressWithCodec(zeros)));
+    }
+
+    private static byte[] assertRoundTrip(byte[] data) throws IOException {
+        byte[] compressed = compress(data);
+        byte[] decompressed = new byte[data.length];
+        Lz4.decompress(compressed, 0, compressed.length, decompressed);
+        assertArrayEquals(data, decompressed);
+        assertEquals(data.length, decompressed.length);
+        return compressed;
+    }
+
+    private static byte[] compress(byte[] data) {
+        byte[] compressed = new byte[Lz4.maxCompressedLength(data.length)];
+        return Arrays.copyOf(compressed, Lz4.compress(data, data.length, compressed));
+    }
+
+    private static byte[] compressWithCodec(byte[] data) throws IOException {
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (OutputStream output = ChunkCompression.LZ4.compress(buffer)) {
+            output.write(data, 0, data.length);
+        }
+        return buffer.toByteArray();
+    }
+
+    private static byte[] decompress(byte[] stored) throws IOException {
+        try (InputStream input = ChunkCompression.LZ4.decompress(new ByteArrayInputStream(stored))) {
+            return ByteStreams.toByteArray(input);
+        }
+    }
+
+}
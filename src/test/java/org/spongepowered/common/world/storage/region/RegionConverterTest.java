@@ -0,0 +1,137 @@
+/*
+ * This file is part of Sponge, licensed under the MIT License (MIT).
+ *
+ * Copyright (c) SpongePowered <https://www.spongepowered.org>
+ * Copyright (c) contributors
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in
+ * all copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN
+ * THE SOFTWARE.
+ */
+package org.spongepowered.common.world.storage.region;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+import com.google.common.io.ByteStreams;
+import org.junit.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+
+public class RegionConverterTest {
+
+    private static final int SECTOR_SIZE = 4096;
+
+    @Test
+    public void testMovesRegionFilesToCodecFolder() throws IOException {
+        File world = Files.createTempDirectory("world").toFile();
+        try {
+            byte[] chunk = new byte[10000];
+            for (int i = 0; i < chunk.length; i++) {
+                chunk[i] = (byte) (i / 50);
+            }
+            writeRegion(new File(world, "region/r.0.0.mca"), chunk);
+            writeRegion(new File(world, "DIM-1/region/r.0.0.mca"), chunk);
+
+            assertEquals(2, RegionConverter.convertWorld(world, ChunkCompression.LZ4));
+            assertFalse(new File(world, "region/r.0.0.mca").exists());
+            File lz4Region = new File(RegionStorage.getFolder(world, ChunkCompression.LZ4), "region/r.0.0.mca");
+            assertEquals(new File(world, "sponge-lz4/region/r.0.0.mca"), lz4Region);
+            assertArrayEquals(chunk, readChunk(lz4Region, ChunkCompression.LZ4));
+            assertTrue(new File(world, "DIM-1/sponge-lz4/region/r.0.0.mca").exists());
+            assertEquals(ChunkCompression.LZ4, RegionStorage.getStoredCompression(world).get());
+
+            assertEquals(2, RegionConverter.convertWorld(world, ChunkCompression.DEFLATE));
+            assertFalse(new File(world, "sponge-lz4").exists());
+            assertFalse(RegionStorage.getStoredCompression(world).isPresent());
+            assertArrayEquals(chunk, readChunk(new File(world, "region/r.0.0.mca"), ChunkCompression.DEFLATE));
+            assertArrayEquals(chunk, readChunk(new File(world, "DIM-1/region/r.0.0.mca"), ChunkCompression.DEFLATE));
+        } finally {
+            delete(world);
+        }
+    }
+
+    @Test
+    public void testWriteCompressionOfCodecFolder() {
+        File world = new File("world");
+        assertEquals(ChunkCompression.LZ4, RegionStorage.getWriteCompression(new File(world, "sponge-lz4/region/r.0.0.mca")));
+        assertEquals(world, RegionStorage.getFolder(world, ChunkCompression.DEFLATE));
+        assertEquals(world, RegionStorage.getFolder(world, ChunkCompression.GZIP));
+    }
+
+    @Test(expected = IOException.class)
+    public void testRefusesToOverwrite() throws IOException {
+        File world = Files.createTempDirectory("world").toFile();
+        try {
+            writeRegion(new File(world, "region/r.0.0.mca"), new byte[100]);
+            writeRegion(new File(world, "sponge-lz4/region/r.0.0.mca"), new byte[100]);
+            RegionConverter.convertWorld(world, ChunkCompression.DEFLATE);
+        } finally {
+            delete(world);
+        }
+    }
+
+    // A region file with a single deflate chunk at 0, 0
+    private static void writeRegion(File file, byte[] chunk) throws IOException {
+        ByteArrayOutputStream compressed = new ByteArrayOutputStream();
+        try (OutputStream output = ChunkCompression.DEFLATE.compress(compressed)) {
+            output.write(chunk);
+        }
+        int sectors = (compressed.size() + 5 + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        ByteBuffer region = ByteBuffer.allocate((2 + sectors) * SECTOR_SIZE);
+        region.putInt(0, 2 << 8 | sectors);
+        region.position(2 * SECTOR_SIZE);
+        region.putInt(compressed.size() + 1);
+        region.put(ChunkCompression.DEFLATE.getType());
+        region.put(compressed.toByteArray());
+        file.getParentFile().mkdirs();
+        Files.write(file.toPath(), region.array());
+    }
+
+    private static byte[] readChunk(File file, ChunkCompression expected) throws IOException {
+        ByteBuffer region = ByteBuffer.wrap(Files.readAllBytes(file.toPath()));
+        int position = (region.getInt(0) >> 8) * SECTOR_SIZE;
+        int length = region.getInt(position);
+        assertEquals(expected.getType(), region.get(position + 4));
+        byte[] data = new byte[length - 1];
+        region.position(position + 5);
+        region.get(data);
+        try (InputStream input = expected.decompress(new ByteArrayInputStream(data))) {
+            return ByteStreams.toByteArray(input);
+        }
+    }
+
+    private static void delete(File file) {
+        File[] files = file.listFiles();
+        if (files != null) {
+            for (File child : files) {
+                delete(child);
+            }
+        }
+        file.delete();
+    }
+
+}